@@ -0,0 +1,51 @@
+package snakeladder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Bandingkan hasil JMH dengan baseline (benchmarks/baseline.json):
+//   java -jar benchmarks/target/benchmarks.jar -rf json -rff current.json
+//   java -cp benchmarks/target/benchmarks.jar snakeladder.CompareBaseline benchmarks/baseline.json current.json [persen]
+// Exit code 1 bila ada benchmark yang lebih lambat dari baseline melebihi batas (default 20%) dan di luar error.
+public class CompareBaseline {
+    private static final Pattern ENTRY = Pattern.compile(
+            "\"benchmark\"\\s*:\\s*\"([^\"]+)\".*?(?:\"params\"\\s*:\\s*\\{([^}]*)\\}.*?)?\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-0-9.eE]+),\\s*\"scoreError\"\\s*:\\s*([-0-9.eENaN]+).*?\"scoreUnit\"\\s*:\\s*\"([^\"]+)\"",
+            Pattern.DOTALL);
+
+    static Map<String, double[]> load(String file, Map<String, String> units) throws IOException {
+        Map<String, double[]> out = new LinkedHashMap<>();
+        for(String entry : new String(Files.readAllBytes(Paths.get(file))).split("\"jmhVersion\"")) { // satu objek per hasil
+            Matcher m = ENTRY.matcher(entry);
+            if(!m.find()) continue;
+            String params = m.group(2) == null ? "" : m.group(2).replaceAll("[\\s\"]", "");
+            String key = m.group(1).replace("snakeladder.", "") + (params.isEmpty() ? "" : " (" + params + ")");
+            double err = m.group(4).equals("NaN") ? 0 : Double.parseDouble(m.group(4));
+            out.put(key, new double[]{Double.parseDouble(m.group(3)), err});
+            units.put(key, m.group(5));
+        }
+        return out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2) { System.err.println("usage: CompareBaseline <baseline.json> <current.json> [percent]"); System.exit(2); }
+        double limit = args.length > 2 ? Double.parseDouble(args[2]) : 20;
+        Map<String, String> units = new LinkedHashMap<>();
+        Map<String, double[]> base = load(args[0], units), cur = load(args[1], units);
+        int regressions = 0;
+        System.out.printf("%-48s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for(Map.Entry<String, double[]> e : cur.entrySet()) {
+            double[] b = base.get(e.getKey()), c = e.getValue();
+            if(b == null) { System.out.printf("%-48s %14s %14.3f %9s%n", e.getKey(), "-", c[0], "new"); continue; }
+            double pct = (c[0]-b[0]) / b[0] * 100; // avgt: lebih besar = lebih lambat
+            boolean slower = pct > limit && c[0]-c[1] > b[0]+b[1];
+            if(slower) regressions++;
+            System.out.printf("%-48s %14.3f %14.3f %+8.1f%% %s%s%n", e.getKey(), b[0], c[0], pct, units.get(e.getKey()), slower ? "  REGRESSION" : "");
+        }
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+}
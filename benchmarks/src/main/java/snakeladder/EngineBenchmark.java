@@ -0,0 +1,72 @@
+package snakeladder;
+
+import snakeladder.engine.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Jalur panas engine: resolusi satu giliran (pengganti genPath + scan shortcut di execLogic),
+// pembuatan layout shortcut (genShortcuts) dan lookup poin kotak (getPointOfNode -> pointOf).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+    @Param({"8", "100"})
+    public int size;
+
+    private GameRules rules;
+    private GameState game;
+    private final Turn turn = new Turn();
+    private final PackedGames packed = new PackedGames();
+    private SplittableRandom rng;
+    private int cursor, slot;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SeededGame sg = new SeededGame(42, size);
+        rules = sg.rules;
+        game = new GameState(rules, 2);
+        slot = packed.alloc(rules, 2);
+        rng = new SplittableRandom(7);
+    }
+
+    // Semua (kotak, hasil dadu) bergiliran supaya cabang tidak bisa diprediksi sepenuhnya
+    @Benchmark
+    public int resolveTurn() {
+        int c = cursor = (cursor+1) % (rules.goal * GameRules.OUTCOMES);
+        int i = c % GameRules.OUTCOMES;
+        rules.resolve(c / GameRules.OUTCOMES + 1, i < GameRules.DICE_SIDES, i % GameRules.DICE_SIDES + 1, turn);
+        return turn.to;
+    }
+
+    // Giliran lengkap: lempar dadu, gerak, poin, antrian giliran
+    @Benchmark
+    public int stepTurn() {
+        if(game.isOver()) game = new GameState(rules, 2);
+        return game.step(rng).to;
+    }
+
+    // Giliran yang sama di atas slot PackedGames (state server)
+    @Benchmark
+    public int packedStepTurn() {
+        if(packed.isOver(slot)) packed.reset(slot, rules, 2);
+        return packed.step(slot, rules, rng, turn).to;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> genShortcuts() {
+        return GameRules.genShortcuts(rng, rules.goal, BoardLayout.shortcutCount(rules.goal));
+    }
+
+    @Benchmark
+    public void pointOfAllSquares(Blackhole bh) {
+        for(int id=1; id<=rules.goal; id++) bh.consume(rules.pointOf(id));
+    }
+}
@@ -0,0 +1,54 @@
+package snakeladder;
+
+import snakeladder.store.HighScoreManager;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// saveScore dipanggil dari EDT: yang diukur biaya di thread pemanggil (update map + antrian journal).
+// saveAndFlush menambahkan tunggu group-commit (fsync) untuk melihat biaya tulis sebenarnya.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+    private static final int NAMES = 1024;
+    private final String[] names = new String[NAMES];
+    private Path dir;
+    private HighScoreManager scores;
+    private int score, next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        for(int i=0; i<NAMES; i++) names[i] = "player" + i;
+        dir = Files.createTempDirectory("snake-bench");
+        scores = new HighScoreManager(dir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        scores.flush(10_000);
+        scores.close();
+        try (Stream<Path> s = Files.walk(dir)) { s.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete()); }
+    }
+
+    // Skor selalu naik supaya setiap panggilan benar-benar menulis ke journal
+    @Benchmark
+    public void saveScore() {
+        scores.saveScore(names[next++ & (NAMES-1)], ++score);
+    }
+
+    @Benchmark
+    public boolean saveAndFlush() {
+        scores.saveScore(names[next++ & (NAMES-1)], ++score);
+        return scores.flush(10_000);
+    }
+}
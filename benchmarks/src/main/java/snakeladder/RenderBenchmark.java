@@ -0,0 +1,64 @@
+package snakeladder;
+
+import snakeladder.engine.SeededGame;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+// Render offscreen ke BufferedImage (headless): latar menu, papan (layer statis dan frame biasa) dan gambar dadu.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    private BufferedImage target;
+    private Graphics2D g;
+    private AnimatedBackgroundPanel background;
+    private BoardCanvas canvas;
+    private SeededGame game;
+    private SpriteCache sprites;
+    private int face;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        AppFonts.load();
+        target = new BufferedImage(1280, 900, BufferedImage.TYPE_INT_ARGB);
+        g = target.createGraphics();
+        background = new AnimatedBackgroundPanel(new Animator());
+        background.setSize(1280, 900);
+        sprites = new SpriteCache();
+        game = new SeededGame(42, 8);
+        canvas = new BoardCanvas(sprites);
+        canvas.setSize(800, 800);
+        canvas.layoutChanged(game.board, game.rules.shortcuts());
+        canvas.setPawns(new int[]{1, 12, 27, 40});
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() { g.dispose(); }
+
+    @Benchmark
+    public void menuBackground() { background.paint(g); }
+
+    // Papan digambar ulang dari nol (setelah layout/zoom berubah)
+    @Benchmark
+    public void boardFull() {
+        canvas.layoutChanged(game.board, game.rules.shortcuts());
+        canvas.paint(g);
+    }
+
+    // Frame biasa: blit layer statis + pion
+    @Benchmark
+    public void boardFrame() { canvas.paint(g); }
+
+    @Benchmark
+    public BufferedImage diceRaster() { return SpriteCache.renderDice(face = face % 6 + 1, 100, Color.LIGHT_GRAY); }
+
+    @Benchmark
+    public Image diceCached() { return sprites.dice(face = face % 6 + 1, 100, Color.LIGHT_GRAY).getImage(); }
+}
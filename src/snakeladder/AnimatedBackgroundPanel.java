@@ -0,0 +1,39 @@
+package snakeladder;
+
+import snakeladder.metrics.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+
+class AnimatedBackgroundPanel extends JPanel {
+    private static final double STAR_SPEED = 10; // px per detik
+    private final float[] starX = new float[50], starY = new float[50];
+    private final Random rand = new Random();
+
+    public AnimatedBackgroundPanel(Animator animator) {
+        for(int i=0; i<starX.length; i++) { starX[i] = rand.nextInt(1200); starY[i] = rand.nextInt(900); }
+        animator.loop(this, dt -> {
+            for(int i=0; i<starY.length; i++) { starY[i] -= STAR_SPEED*dt; if(starY[i] < 0) starY[i] = getHeight(); }
+        });
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long t0 = System.nanoTime();
+        paintBackground(g);
+        Metrics.PAINT_BACKGROUND.record(System.nanoTime()-t0);
+    }
+
+    private void paintBackground(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        GradientPaint gp = new GradientPaint(0, 0, Color.decode("#0f2027"), getWidth(), getHeight(), Color.decode("#2c5364"));
+        g2.setPaint(gp); g2.fillRect(0, 0, getWidth(), getHeight());
+        g2.setColor(new Color(255, 255, 255, 10));
+        g2.fillOval(-50, -50, 300, 300); g2.fillOval(getWidth()-200, getHeight()-200, 400, 400);
+        g2.setColor(new Color(255,255,255, 100));
+        for(int i=0; i<starX.length; i++) g2.fillOval((int)starX[i], (int)starY[i], 3, 3);
+    }
+}
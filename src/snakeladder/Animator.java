@@ -0,0 +1,82 @@
+package snakeladder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.util.*;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+// Satu jam animasi untuk seluruh GUI: satu Swing Timer sebagai pompa frame, progres dihitung dari
+// System.nanoTime() sehingga EDT yang sibuk hanya membuang frame, bukan memperlambat permainan.
+public class Animator {
+    public static final int FRAME_MS = 16;
+    private final List<Anim> active = new ArrayList<>();
+    private final Set<JComponent> dirty = new LinkedHashSet<>(), watched = new HashSet<>();
+    private final javax.swing.Timer pump = new javax.swing.Timer(FRAME_MS, e -> frame());
+    private double speed = 1;
+    private boolean skip;
+    private long lastFrame;
+
+    public class Anim {
+        final JComponent owner; final double durationMs; final DoubleConsumer update; final Runnable done;
+        double elapsedMs; boolean cancelled;
+        Anim(JComponent owner, double durationMs, DoubleConsumer update, Runnable done) {
+            this.owner = owner; this.durationMs = durationMs; this.update = update; this.done = done;
+        }
+        public void cancel() { cancelled = true; }
+    }
+
+    public Animator() { pump.setCoalesce(true); }
+
+    public double getSpeed() { return speed; }
+    public void setSpeed(double s) { speed = s; }
+    public boolean isSkip() { return skip; }
+    public void setSkip(boolean s) { skip = s; if(s) frame(); }
+
+    // update menerima progres 0..1; done dipanggil sekali setelah progres 1. durationMs < 0 = berjalan terus
+    // (update menerima detik sejak frame sebelumnya). Owner yang tidak tampil dianggap pause.
+    public Anim play(JComponent owner, double durationMs, DoubleConsumer update, Runnable done) {
+        Anim a = new Anim(owner, durationMs, update, done);
+        if(skip && durationMs >= 0) { finish(a); return a; }
+        active.add(a);
+        if(owner != null && watched.add(owner))
+            owner.addHierarchyListener(e -> { if((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && owner.isShowing()) wake(); });
+        wake();
+        return a;
+    }
+
+    public Anim delay(double ms, Runnable done) { return play(null, ms, null, done); }
+    public Anim loop(JComponent owner, DoubleConsumer perFrameSeconds) { return play(owner, -1, perFrameSeconds, null); }
+
+    private void finish(Anim a) {
+        if(a.update != null) a.update.accept(1.0);
+        if(a.owner != null) a.owner.repaint();
+        if(a.done != null) a.done.run();
+    }
+
+    private void frame() {
+        long now = System.nanoTime();
+        double dtMs = (now-lastFrame)/1e6*speed;
+        lastFrame = now;
+        List<Anim> finished = new ArrayList<>();
+        boolean running = false;
+        for(Anim a : new ArrayList<>(active)) {
+            if(a.cancelled) { active.remove(a); continue; }
+            if(a.owner != null && !a.owner.isShowing()) continue; // tidak terlihat: pause
+            running = true;
+            if(a.durationMs < 0) { a.update.accept(dtMs/1000.0); dirty.add(a.owner); continue; }
+            a.elapsedMs += skip ? a.durationMs : dtMs;
+            double p = Math.min(1, a.durationMs <= 0 ? 1 : a.elapsedMs/a.durationMs);
+            if(a.update != null) a.update.accept(p);
+            if(a.owner != null) dirty.add(a.owner);
+            if(p >= 1) { active.remove(a); finished.add(a); }
+        }
+        for(JComponent c : dirty) c.repaint(); // satu repaint per komponen per frame
+        dirty.clear();
+        for(Anim a : finished) if(a.done != null) a.done.run();
+        if(!running && pump.isRunning()) pump.stop(); // semua tersembunyi: pompa berhenti sampai ada yang tampil lagi
+    }
+
+    private void wake() { if(!active.isEmpty() && !pump.isRunning()) { lastFrame = System.nanoTime(); pump.start(); } }
+}
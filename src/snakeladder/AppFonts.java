@@ -0,0 +1,51 @@
+package snakeladder;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+import java.io.*;
+
+public class AppFonts {
+    private static final String FALLBACK = "Segoe UI", FALLBACK_MONO = "Consolas";
+    public static volatile Font REGULAR = new Font(FALLBACK, Font.PLAIN, 14);
+    public static volatile Font BOLD    = new Font(FALLBACK, Font.BOLD, 14);
+    public static volatile Font MONO    = new Font(FALLBACK_MONO, Font.PLAIN, 12);
+    private static boolean loaded;
+    // TTF dibaca sekali: GUI lewat Startup (thread latar), alat headless memanggil langsung
+    public static synchronized void load() {
+        if(loaded) return;
+        loaded = true;
+        loadCustomFont("Geist-Regular.ttf", "REGULAR");
+        loadCustomFont("Geist-Bold.ttf", "BOLD");
+        loadCustomFont("GeistMono-Regular.ttf", "MONO");
+    }
+    private static void loadCustomFont(String fName, String type) {
+        try {
+            File f = new File(fName);
+            if (f.exists()) {
+                Font font = Font.createFont(Font.TRUETYPE_FONT, f).deriveFont(type.equals("MONO")?12f:14f);
+                if (type.equals("BOLD")) font = font.deriveFont(Font.BOLD);
+                if (type.equals("REGULAR")) REGULAR = font; else if (type.equals("BOLD")) BOLD = font; else MONO = font;
+            }
+        } catch (Exception e) {}
+    }
+
+    // Setelah load() selesai (EDT): komponen yang sempat dibuat dengan font cadangan diganti ke Geist, ukuran/gaya tetap
+    static void swapFallbacks(Component c) {
+        Font f = c.getFont(), g = swap(f);
+        if(g != f) c.setFont(g);
+        if(c instanceof JComponent) {
+            Border b = ((JComponent)c).getBorder();
+            if(b instanceof TitledBorder) { TitledBorder tb = (TitledBorder)b; tb.setTitleFont(swap(tb.getTitleFont())); }
+        }
+        if(c instanceof Container) for(Component k : ((Container)c).getComponents()) swapFallbacks(k);
+    }
+
+    private static Font swap(Font f) {
+        if(f == null) return null;
+        if(f.getName().equals(FALLBACK_MONO)) return MONO.deriveFont(f.getStyle(), f.getSize2D());
+        if(f.getName().equals(FALLBACK)) return (f.isBold() ? BOLD : REGULAR).deriveFont(f.getSize2D());
+        return f;
+    }
+}
@@ -0,0 +1,189 @@
+package snakeladder;
+
+import snakeladder.engine.*;
+import snakeladder.metrics.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.*;
+
+// Satu komponen untuk seluruh papan. Kotak, angka, koin poin dan tangga digambar sekali ke layer statis
+// (hanya area yang terlihat); repaint biasa cuma blit layer itu lalu menggambar pion di atasnya.
+class BoardCanvas extends JComponent {
+    private static final int MIN_CELL = 4, MAX_CELL = 160;
+    private final Color blueCenter = Color.decode("#E3F2FD"), blueEdge = Color.decode("#90CAF9");
+    private final Color creamCenter = Color.decode("#FFFDE7"), creamEdge = Color.decode("#FFF59D");
+    private final SpriteCache sprites;
+    private BoardLayout board;
+    private int boardSize;
+    private Map<Integer, Integer> shortcuts = Collections.emptyMap();
+    private BufferedImage layer;
+    private boolean layerDirty = true, fit = true;
+    private int cell, viewX, viewY; // ukuran kotak (px) dan offset viewport di koordinat papan
+    private int[] pawnAt = new int[0];
+    private int animPid, animX, animY;
+    private Point dragFrom;
+
+    public BoardCanvas(SpriteCache sprites) {
+        this.sprites = sprites;
+        setOpaque(true);
+        addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) { relayout(); }
+        });
+        addMouseWheelListener(e -> zoom(e.getWheelRotation() < 0 ? 1.25 : 0.8, e.getX(), e.getY()));
+        MouseAdapter pan = new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent e) { dragFrom = e.getPoint(); }
+            @Override public void mouseDragged(MouseEvent e) {
+                if(dragFrom == null || fit) return;
+                scrollTo(viewX-(e.getX()-dragFrom.x), viewY-(e.getY()-dragFrom.y));
+                dragFrom = e.getPoint();
+            }
+        };
+        addMouseListener(pan); addMouseMotionListener(pan);
+    }
+
+    public void layoutChanged(BoardLayout board, Map<Integer, Integer> shortcuts) {
+        if(this.board == null || board.size != boardSize) { boardSize = board.size; fit = true; viewX = viewY = 0; }
+        this.board = board; this.shortcuts = shortcuts;
+        relayout();
+    }
+
+    public void setPawns(int[] positions) {
+        if(positions.length != pawnAt.length || animPid != 0) { pawnAt = positions.clone(); animPid = 0; repaint(); return; }
+        for(int i=0; i<positions.length; i++) if(pawnAt[i] != positions[i]) { repaintCell(pawnAt[i]); pawnAt[i] = positions[i]; repaintCell(pawnAt[i]); }
+    }
+
+    // Hanya kotak asal dan tujuan yang dilukis ulang; setelah animasi seluruh kanvas (jejak pion animasi)
+    public void movePawn(int pid, int id) {
+        int old = pawnAt[pid-1];
+        pawnAt[pid-1] = id;
+        if(animPid != 0) { animPid = 0; repaint(); return; }
+        if(old != id) { repaintCell(old); repaintCell(id); }
+    }
+
+    private void repaintCell(int id) {
+        if(board != null && id >= 1 && id <= board.squares) repaint(board.colOf(id)*cell - viewX, board.rowOf(id)*cell - viewY, cell, cell);
+    }
+    public void setAnimPawn(int pid, int x, int y) { animPid = pid; animX = x; animY = y; } // repaint oleh Animator
+    public void stopAnimation() { if(animPid != 0) { animPid = 0; repaint(); } }
+
+    public Point cellCenter(int id) {
+        return new Point(board.colOf(id)*cell + cell/2 - viewX, board.rowOf(id)*cell + cell/2 - viewY);
+    }
+
+    // Papan besar: geser viewport supaya kotak id kelihatan
+    public void reveal(int id) {
+        Point p = cellCenter(id);
+        if(p.x >= 0 && p.y >= 0 && p.x < getWidth() && p.y < getHeight()) return;
+        scrollTo(p.x+viewX-getWidth()/2, p.y+viewY-getHeight()/2);
+    }
+
+    private void relayout() {
+        if(fit) cell = Math.max(MIN_CELL, Math.min(getWidth(), getHeight())/boardSize);
+        scrollTo(viewX, viewY);
+    }
+
+    private void zoom(double f, int mx, int my) {
+        int old = cell, fitCell = Math.min(getWidth(), getHeight())/boardSize;
+        int c = Math.max(MIN_CELL, Math.min(MAX_CELL, (int)Math.round(cell*f)));
+        if(c <= fitCell) { fit = true; viewX = viewY = 0; relayout(); return; }
+        fit = false; cell = c;
+        scrollTo((int)((long)(viewX+mx)*c/old) - mx, (int)((long)(viewY+my)*c/old) - my);
+    }
+
+    private void scrollTo(int x, int y) {
+        int total = cell*boardSize;
+        x = Math.max(0, Math.min(x, total-getWidth())); y = Math.max(0, Math.min(y, total-getHeight()));
+        viewX = x; viewY = y; layerDirty = true; repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long t0 = System.nanoTime();
+        paintBoard(g);
+        Metrics.PAINT_BOARD.record(System.nanoTime()-t0);
+    }
+
+    private void paintBoard(Graphics g) {
+        int w = getWidth(), h = getHeight();
+        if(w <= 0 || h <= 0 || board == null) return;
+        if(layer == null || layer.getWidth() != w || layer.getHeight() != h) { layer = getGraphicsConfiguration() != null
+                ? getGraphicsConfiguration().createCompatibleImage(w, h) : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB); layerDirty = true; }
+        if(layerDirty) { paintStatic(layer.createGraphics(), w, h); layerDirty = false; }
+        g.drawImage(layer, 0, 0, null);
+
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int size = cell/3, margin = Math.max(1, cell/14);
+        for(int i=0; i<pawnAt.length; i++) {
+            int pid = i+1;
+            if(pid == animPid || pid > 4) continue;
+            int x = board.colOf(pawnAt[i])*cell - viewX, y = board.rowOf(pawnAt[i])*cell - viewY;
+            if(x+cell < 0 || y+cell < 0 || x >= w || y >= h) continue;
+            int px = (i%2==0) ? margin : cell-size-margin, py = (i<2) ? margin+cell/10 : cell-size-margin;
+            sprites.drawPawn(g2, x+px, y+py, size, pid);
+        }
+        if(animPid != 0) sprites.drawPawn(g2, animX-size/2, animY-size/2, size, animPid);
+    }
+
+    // Layer statis, hanya kotak dan tangga yang memotong viewport
+    private void paintStatic(Graphics2D g2, int w, int h) {
+        g2.setColor(UITheme.BG_PANEL); g2.fillRect(0, 0, w, h);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int c0 = Math.max(0, viewX/cell), c1 = Math.min(boardSize-1, (viewX+w)/cell);
+        int r0 = Math.max(0, viewY/cell), r1 = Math.min(boardSize-1, (viewY+h)/cell);
+        boolean detail = cell >= 24;
+        Font numFont = AppFonts.BOLD.deriveFont((float)Math.min(14, cell/4)), ptFont = AppFonts.BOLD.deriveFont((float)Math.min(10, cell/6));
+        FontMetrics nfm = g2.getFontMetrics(numFont), pfm = g2.getFontMetrics(ptFont);
+        for(int r=r0; r<=r1; r++) for(int c=c0; c<=c1; c++) {
+            int x = c*cell-viewX, y = r*cell-viewY, id = board.idAt(r, c);
+            boolean blue = (r+c)%2==0;
+            if(detail) {
+                g2.setPaint(new RadialGradientPaint(new Point2D.Float(x+cell/2f, y+cell/2f), cell,
+                        new float[]{0.0f, 1.0f}, new Color[]{blue?blueCenter:creamCenter, blue?blueEdge:creamEdge}));
+            } else g2.setColor(blue?blueEdge:creamEdge);
+            g2.fillRect(x, y, cell, cell);
+            if(!detail) continue;
+            g2.setColor(Color.WHITE); g2.setStroke(new BasicStroke(1f)); g2.drawRect(x, y, cell-1, cell-1);
+            String num = String.valueOf(id);
+            g2.setFont(numFont); g2.setColor(new Color(80,80,80));
+            g2.drawString(num, x+cell-8-nfm.stringWidth(num), y+6+nfm.getAscent());
+            int ptS = Math.min(20, cell/4), ptX = x+4, ptY = y+cell-ptS-4;
+            g2.setColor(new Color(255, 215, 0)); g2.fillOval(ptX, ptY, ptS, ptS);
+            g2.setColor(new Color(184, 134, 11)); g2.drawOval(ptX, ptY, ptS, ptS);
+            String pts = String.valueOf(board.pointOf(id));
+            g2.setFont(ptFont); g2.setColor(Color.BLACK);
+            g2.drawString(pts, ptX+(ptS-pfm.stringWidth(pts))/2, ptY+(ptS-pfm.getHeight())/2+pfm.getAscent()-1);
+        }
+        Rectangle view = new Rectangle(-cell, -cell, w+2*cell, h+2*cell);
+        g2.setStroke(new BasicStroke(1f)); g2.setColor(new Color(101,67,33,120));
+        for(Map.Entry<Integer, Integer> e : shortcuts.entrySet()) {
+            Point p1 = cellCenter(e.getKey()), p2 = cellCenter(e.getValue());
+            if(!view.intersectsLine(p1.x, p1.y, p2.x, p2.y)) continue;
+            if(detail) drawLadder(g2, p1, p2); else g2.drawLine(p1.x, p1.y, p2.x, p2.y);
+        }
+        g2.dispose();
+    }
+
+    private void drawLadder(Graphics2D g2, Point p1, Point p2) {
+        double dx = p2.x-p1.x, dy = p2.y-p1.y, dist = Math.sqrt(dx*dx+dy*dy);
+        if(dist<20) return;
+        double ux = dx/dist, uy = dy/dist, px = -uy*12, py = ux*12;
+        g2.setStroke(new BasicStroke(5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2.setColor(new Color(0,0,0,80));
+        g2.drawLine((int)(p1.x+px+2), (int)(p1.y+py+2), (int)(p2.x+px+2), (int)(p2.y+py+2));
+        g2.drawLine((int)(p1.x-px+2), (int)(p1.y-py+2), (int)(p2.x-px+2), (int)(p2.y-py+2));
+        g2.setColor(new Color(101,67,33));
+        g2.drawLine((int)(p1.x+px), (int)(p1.y+py), (int)(p2.x+px), (int)(p2.y+py));
+        g2.drawLine((int)(p1.x-px), (int)(p1.y-py), (int)(p2.x-px), (int)(p2.y-py));
+        g2.setStroke(new BasicStroke(4f));
+        for(double t=25; t<dist-10; t+=25) {
+            double cx = p1.x+ux*t, cy = p1.y+uy*t;
+            g2.setColor(new Color(0,0,0,80)); g2.drawLine((int)(cx+px+1), (int)(cy+py+2), (int)(cx-px+1), (int)(cy-py+2));
+            g2.setColor(new Color(160,112,66)); g2.drawLine((int)(cx+px), (int)(cy+py), (int)(cx-px), (int)(cy-py));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package snakeladder;
+
+import java.awt.*;
+
+class PawnPainter {
+    public static Color getPlayerColor(int id) {
+        switch (id) {
+            case 1: return Color.decode("#FF5252"); case 2: return Color.decode("#448AFF");
+            case 3: return Color.decode("#69F0AE"); case 4: return Color.decode("#FFAB40");
+            default: return Color.GRAY;
+        }
+    }
+
+    public static void drawPawnStatic(Graphics2D g2, int x, int y, int size, Color color, String label) {
+        g2.setColor(new Color(0,0,0,60)); g2.fillOval(x+2, y+2, size, size);
+        g2.setColor(color); g2.fillOval(x, y, size, size);
+        g2.setColor(new Color(255,255,255,150)); g2.setStroke(new BasicStroke(2f)); g2.drawOval(x, y, size, size);
+        g2.setFont(AppFonts.BOLD.deriveFont(10f)); g2.setColor(Color.WHITE);
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString(label, x+(size-fm.stringWidth(label))/2, y+(size-fm.getHeight())/2+fm.getAscent());
+    }
+}
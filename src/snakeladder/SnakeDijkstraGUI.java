@@ -0,0 +1,976 @@
+package snakeladder;
+
+import snakeladder.engine.*;
+import snakeladder.metrics.*;
+import snakeladder.server.*;
+import snakeladder.store.*;
+
+import javax.swing.*;
+import javax.swing.border.CompoundBorder;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.LineBorder;
+import java.awt.*;
+import java.awt.event.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public class SnakeDijkstraGUI extends JFrame {
+
+    private class SportsScoreboardPanel extends JPanel {
+        private JPanel[] playerPanels;
+        private JLabel[] scoreLabels;
+        private JLabel[] nameLabels;
+        private JLabel[] highscoreLabels;
+        private JLabel[] oddsLabels;
+
+        public SportsScoreboardPanel() {
+            setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+            setBackground(UITheme.BG_PANEL); setOpaque(false);
+        }
+        public void init(int num, String[] names, HighScoreManager mgr) {
+            if(nameLabels != null && nameLabels.length == num && sameNames(names)) { // permainan berikutnya (turnamen): pakai ulang panel
+                for(int i=0; i<num; i++) {
+                    setOdds(i+1, "");
+                    String best = "Best: " + mgr.getScore(names[i]);
+                    if(!best.equals(highscoreLabels[i].getText())) highscoreLabels[i].setText(best);
+                }
+                return;
+            }
+            removeAll();
+            playerPanels = new JPanel[num]; scoreLabels = new JLabel[num];
+            nameLabels = new JLabel[num]; highscoreLabels = new JLabel[num]; oddsLabels = new JLabel[num];
+
+            JLabel title = new JLabel("LIVE SCORE");
+            title.setFont(AppFonts.BOLD.deriveFont(16f));
+            title.setForeground(UITheme.TEXT_SUB);
+            title.setAlignmentX(CENTER_ALIGNMENT);
+            add(title); add(Box.createRigidArea(new Dimension(0, 10)));
+            JPanel grid = new JPanel(new GridLayout(0, 2, 10, 10));
+            grid.setOpaque(false);
+
+            for(int i=0; i<num; i++) {
+                int pid = i+1;
+                JPanel p = new JPanel(new BorderLayout());
+                p.setBackground(UITheme.BG_DARK);
+                p.setBorder(new CompoundBorder(new LineBorder(PawnPainter.getPlayerColor(pid), 1, true), new EmptyBorder(5,10,5,10)));
+                p.setPreferredSize(new Dimension(130, 84));
+
+                JPanel info = new JPanel(new GridLayout(3, 1));
+                info.setOpaque(false);
+                JLabel n = new JLabel(names[i]);
+                n.setFont(AppFonts.BOLD.deriveFont(13f)); n.setForeground(PawnPainter.getPlayerColor(pid));
+                JLabel best = new JLabel("Best: " + mgr.getScore(names[i]));
+                best.setFont(AppFonts.REGULAR.deriveFont(10f)); best.setForeground(Color.GRAY);
+                JLabel odds = new JLabel(" ");
+                odds.setFont(AppFonts.MONO.deriveFont(10f)); odds.setForeground(UITheme.TEXT_SUB);
+                info.add(n); info.add(best); info.add(odds);
+
+                JLabel s = new JLabel("0");
+                s.setFont(AppFonts.MONO.deriveFont(28f)); s.setForeground(Color.WHITE); s.setHorizontalAlignment(SwingConstants.RIGHT);
+
+                p.add(info, BorderLayout.WEST); p.add(s, BorderLayout.EAST);
+                playerPanels[i] = p; scoreLabels[i] = s; nameLabels[i] = n; highscoreLabels[i] = best; oddsLabels[i] = odds;
+                grid.add(p);
+            }
+            add(grid); revalidate(); repaint();
+        }
+        private boolean sameNames(String[] names) {
+            for(int i=0; i<nameLabels.length; i++) if(!nameLabels[i].getText().equals(names[i])) return false;
+            return true;
+        }
+        public void updateScores(int[] scores) {
+            for(int i=0; i<scores.length; i++) setScore(i+1, scores[i]);
+        }
+        // setText hanya bila teksnya berubah (setText selalu memicu revalidate + repaint)
+        public void setScore(int pid, int score) {
+            if(scoreLabels==null || pid>scoreLabels.length) return;
+            String t = String.valueOf(score);
+            if(!t.equals(scoreLabels[pid-1].getText())) scoreLabels[pid-1].setText(t);
+        }
+        // Baris peluang menang + sisa turn; setText hanya bila berubah, sama seperti skor
+        public void setOdds(int pid, String text) {
+            if(oddsLabels==null || pid>oddsLabels.length) return;
+            if(text.isEmpty()) text = " ";
+            if(!text.equals(oddsLabels[pid-1].getText())) oddsLabels[pid-1].setText(text);
+        }
+        public void highlight(int pid) {
+            if(playerPanels==null) return;
+            for(int i=0; i<playerPanels.length; i++) {
+                Color c = i==pid-1 ? UITheme.BG_DARK.brighter() : UITheme.BG_DARK;
+                if(!c.equals(playerPanels[i].getBackground())) playerPanels[i].setBackground(c);
+            }
+        }
+    }
+
+    private final int boardSize;
+    private BoardLayout board;
+    private int playerCount = 2;
+    private String[] playerNames;
+    private GameState game; //GILIRAN + SKOR: DIPEGANG ENGINE
+    private BoardGraph boardGraph; //DIJKSTRA: JARAK MINIMUM PER LAYOUT
+    private Map<Integer, Integer> shortcuts = new HashMap<>(); //BOARDS
+    private Random random = new Random(); //KOSMETIK SAJA (ACAKAN DADU SAAT ANIMASI)
+    private SeededGame setup; //SEED: PAPAN + SHORTCUT + DADU
+    private ReplayWriter replayWriter;
+    private int[] replayRolls; // != null SAAT MEMUTAR ULANG
+    private int replayIdx;
+    private boolean[] botSeat = new boolean[0]; // KURSI BOT: LEMPAR OTOMATIS
+    private Tournament tournament; // != null SAAT TURNAMEN BOT BERJALAN
+    private static final int AUTO_TURN_MS = 400;
+    private GameClient net; // != null SAAT BERMAIN ONLINE
+    private String netRoom;
+    private int netSeat;
+    private final ArrayDeque<Integer> netRolls = new ArrayDeque<>(); // TURN dari server yang belum dianimasikan
+    private boolean netBusy, onlineGame; // onlineGame: permainan dari START server, tetap true walau koneksi putus
+    private static final Path REPLAY_FILE = Paths.get("snake_replays.bin");
+    private HighScoreManager highScoreManager;
+    private final Animator animator = new Animator();
+    private final SpriteCache sprites = new SpriteCache();
+    private boolean inputEnabled = false; // FLAG INPUT
+    private long turnStartNs; // input (atau giliran bot) -> finalizeTurn, untuk Metrics.TURN
+    private int skippedRoll; // mode Skip: lemparan terakhir, ditampilkan sekali per frame
+    private final ViewUpdates viewUpdates = new ViewUpdates(new ViewUpdates.View() {
+        @Override public void pawn(int pid, int from, int to) { boardCanvas.movePawn(pid, to); }
+        @Override public void score(int pid, int score) { scoreboardPanel.setScore(pid, score); }
+        @Override public void turn(int pid) { showTurn(pid); }
+        @Override public void frameDone() {
+            historyList.ensureIndexIsVisible(turnLog.getSize()-1);
+            if(skippedRoll != 0) { showDice(skippedRoll > 0, Math.abs(skippedRoll)); skippedRoll = 0; }
+            updateOdds();
+            updateTimelineControls();
+        }
+    });
+    private Timeline timeline; // snapshot per giliran untuk undo/redo/scrub
+    private boolean turnInFlight, syncingTimeline; // giliran sedang dianimasikan: timeline dikunci
+    private WinOdds odds; // null = tabel layout ini belum siap / papan terlalu besar
+    private GameRules oddsRules;
+    private CompletableFuture<WinOdds> oddsBuild;
+    private final int[] oddsPos = new int[4], oddsOrder = new int[4];
+    private final double[] oddsWin = new double[4];
+
+    // UI Components
+    private CardLayout cardLayout;
+    private JPanel mainContainer;
+    private BoardCanvas boardCanvas;
+    private JLabel statusLabel, diceImageLabel, diceTextLabel, hintLabel, tourneyLabel;
+    private ToastLayer toasts;
+    private final javax.swing.Timer tourneyTicker = new javax.swing.Timer(1000, e -> updateTourneyLabel());
+    private final TurnLog turnLog = new TurnLog(Paths.get("snake_turns.log"));
+    private JList<String> historyList;
+    private JButton restartButton, undoButton, redoButton;
+    private JSlider timelineSlider;
+    private JLabel timelineLabel;
+    private SportsScoreboardPanel scoreboardPanel;
+
+    private final Color[] playerTextColors = {Color.decode("#FF5252"), Color.decode("#448AFF"), Color.decode("#69F0AE"), Color.decode("#FFAB40")};
+
+    public SnakeDijkstraGUI(int boardSize) {
+        this.boardSize = boardSize;
+        UITheme.applyTheme();
+        Startup.preloadSprites(sprites); // audio + skor sudah dimuat di thread latar sejak main()
+        Runtime.getRuntime().addShutdownHook(new Thread(turnLog::flush, "turnlog-flush"));
+        setTitle("Snake Game: Ultimate Edition");
+        setSize(1280, 900);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        cardLayout = new CardLayout();
+        mainContainer = new JPanel(cardLayout);
+        mainContainer.add(createMenuPanel(), "MENU"); // font cadangan dulu, EDT tidak menunggu file TTF
+        add(mainContainer);
+        Startup.fonts().thenRunAsync(() -> { AppFonts.swapFallbacks(getRootPane()); getRootPane().revalidate(); repaint(); }, SwingUtilities::invokeLater);
+        toasts = new ToastLayer(animator); setGlassPane(toasts);
+        installMetrics();
+        setLocationRelativeTo(null);
+    }
+
+    // STARTUP TAHAP 2 (setelah frame pertama menu): kartu GAME dibangun di EDT, JMX didaftarkan di latar
+    private void finishStartup() {
+        mainContainer.add(createGamePanel(), "GAME");
+        Startup.gameCardReady();
+        CompletableFuture.runAsync(Metrics::registerMBean);
+    }
+
+    // BARRIER: aksi yang butuh papan, skor atau suara menunggu semua aset siap
+    private void whenReady(Runnable action) {
+        CompletableFuture<Void> r = Startup.ready();
+        Runnable go = () -> { if(highScoreManager == null) highScoreManager = Startup.scores().join(); action.run(); };
+        if(r.isDone()) { go.run(); return; }
+        toasts.show("MEMUAT", "Menyiapkan aset...", false);
+        r.whenComplete((v, e) -> SwingUtilities.invokeLater(go));
+    }
+
+    private JPanel createMenuPanel() {
+        AnimatedBackgroundPanel p = new AnimatedBackgroundPanel(animator) {
+            @Override protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if(Startup.firstFrame()) SwingUtilities.invokeLater(SnakeDijkstraGUI.this::finishStartup);
+            }
+        };
+        p.setLayout(new GridBagLayout());
+        JPanel card = new JPanel();
+        card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
+        card.setBackground(new Color(30, 30, 46, 200));
+        card.setBorder(new CompoundBorder(new LineBorder(new Color(255,255,255,50), 1, true), new EmptyBorder(40, 60, 40, 60)));
+
+        JLabel t = new JLabel("DICE MASTER"); t.setFont(AppFonts.BOLD.deriveFont(48f)); t.setForeground(UITheme.ACCENT); t.setAlignmentX(CENTER_ALIGNMENT);
+        JLabel t2 = new JLabel("SNAKE & LADDER"); t2.setFont(AppFonts.BOLD.deriveFont(32f)); t2.setForeground(Color.WHITE); t2.setAlignmentX(CENTER_ALIGNMENT);
+        JLabel s = new JLabel("Strategy Board Game"); s.setFont(AppFonts.REGULAR.deriveFont(16f)); s.setForeground(UITheme.TEXT_SUB); s.setAlignmentX(CENTER_ALIGNMENT);
+
+        JButton b = styleButton("START ADVENTURE", UITheme.BUTTON_GREEN, Color.BLACK);
+        b.setPreferredSize(new Dimension(200, 50)); b.setAlignmentX(CENTER_ALIGNMENT);
+
+        b.addActionListener(e -> whenReady(() -> showPlayerSelectionDialog(count -> {
+            playerCount = count;
+            askPlayerNames();
+            initGameData(); updateGraphics();
+            cardLayout.show(mainContainer, "GAME");
+            // SETUP SHORTCUT ENTER FOR GAME
+            setupGameInput();
+        })));
+
+        JButton lb = styleButton("LEADERBOARD", UITheme.BUTTON_BLUE, Color.BLACK);
+        lb.setPreferredSize(new Dimension(200, 40)); lb.setAlignmentX(CENTER_ALIGNMENT);
+        lb.addActionListener(e -> whenReady(this::showLeaderboardDialog));
+
+        JButton rp = styleButton("REPLAY", UITheme.BG_PANEL, Color.WHITE);
+        rp.setPreferredSize(new Dimension(200, 40)); rp.setAlignmentX(CENTER_ALIGNMENT);
+        rp.addActionListener(e -> whenReady(this::startReplay));
+
+        JButton bt = styleButton("BOT TOURNAMENT", UITheme.BG_PANEL, Color.WHITE);
+        bt.setPreferredSize(new Dimension(200, 40)); bt.setAlignmentX(CENTER_ALIGNMENT);
+        bt.addActionListener(e -> whenReady(() -> showPlayerSelectionDialog(this::startTournament)));
+
+        JButton on = styleButton("ONLINE", UITheme.BG_PANEL, Color.WHITE);
+        on.setPreferredSize(new Dimension(200, 40)); on.setAlignmentX(CENTER_ALIGNMENT);
+        on.addActionListener(e -> whenReady(this::joinOnline));
+
+        card.add(t); card.add(t2); card.add(Box.createRigidArea(new Dimension(0, 10)));
+        card.add(s); card.add(Box.createRigidArea(new Dimension(0, 40))); card.add(b);
+        card.add(Box.createRigidArea(new Dimension(0, 10))); card.add(lb);
+        card.add(Box.createRigidArea(new Dimension(0, 10))); card.add(rp);
+        card.add(Box.createRigidArea(new Dimension(0, 10))); card.add(bt);
+        card.add(Box.createRigidArea(new Dimension(0, 10))); card.add(on);
+        p.add(card); return p;
+    }
+
+    // INSTRUMENTASI: waktu frame, watchdog EDT dan overlay (F3 atau -Dsnake.overlay=true); MBean JMX menyusul di finishStartup
+    private void installMetrics() {
+        RepaintManager.setCurrentManager(new TimedRepaintManager());
+        EdtWatchdog.start();
+        MetricsOverlay overlay = new MetricsOverlay();
+        getLayeredPane().add(overlay, JLayeredPane.PALETTE_LAYER);
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "METRICS");
+        getRootPane().getActionMap().put("METRICS", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) { overlay.toggle(); }
+        });
+        if(Boolean.getBoolean("snake.overlay")) overlay.toggle();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> { if(Boolean.getBoolean("snake.metrics")) System.err.print(Metrics.summary()); }, "metrics-dump"));
+    }
+
+    private void setupGameInput() {
+        // GLOBAL ENTER KEY BINDING FOR ROLLING DICE
+        InputMap im = getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap am = getRootPane().getActionMap();
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "ROLL_DICE");
+        am.put("ROLL_DICE", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                // Only roll if input is enabled (not animating)
+                if (inputEnabled) requestRoll();
+            }
+        });
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK), "UNDO");
+        im.put(KeyStroke.getKeyStroke(KeyEvent.VK_Y, InputEvent.CTRL_DOWN_MASK), "REDO");
+        am.put("UNDO", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) { if(timeline != null) jumpTo(timeline.cursor()-1); }
+        });
+        am.put("REDO", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) { if(timeline != null) jumpTo(timeline.cursor()+1); }
+        });
+    }
+
+    private JPanel createGamePanel() {
+        JPanel p = new JPanel(new BorderLayout());
+        boardCanvas = new BoardCanvas(sprites);
+        initBoardLogic();
+
+        JPanel side = new JPanel(); side.setLayout(new BoxLayout(side, BoxLayout.Y_AXIS));
+        side.setPreferredSize(new Dimension(320, 0)); side.setBorder(new EmptyBorder(30,20,30,20));
+        side.setBackground(UITheme.BG_PANEL);
+
+        statusLabel = new JLabel("PLAYER 1 TURN"); statusLabel.setFont(AppFonts.BOLD.deriveFont(24f));
+        statusLabel.setForeground(playerTextColors[0]); statusLabel.setAlignmentX(CENTER_ALIGNMENT);
+
+        scoreboardPanel = new SportsScoreboardPanel(); scoreboardPanel.setAlignmentX(CENTER_ALIGNMENT);
+
+        diceImageLabel = new JLabel(createDiceImage(1, 100, Color.BLACK)); diceImageLabel.setAlignmentX(CENTER_ALIGNMENT);
+        diceImageLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        diceImageLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (inputEnabled) requestRoll();
+            }
+        });
+
+        diceTextLabel = new JLabel("Click Dice or Enter"); diceTextLabel.setFont(AppFonts.REGULAR.deriveFont(14f));
+        diceTextLabel.setForeground(UITheme.TEXT_MAIN); diceTextLabel.setAlignmentX(CENTER_ALIGNMENT);
+        hintLabel = new JLabel(" "); hintLabel.setFont(AppFonts.REGULAR.deriveFont(12f));
+        hintLabel.setForeground(UITheme.TEXT_SUB); hintLabel.setAlignmentX(CENTER_ALIGNMENT);
+        tourneyLabel = new JLabel(" "); tourneyLabel.setFont(AppFonts.MONO.deriveFont(11f));
+        tourneyLabel.setForeground(UITheme.ACCENT); tourneyLabel.setAlignmentX(CENTER_ALIGNMENT);
+
+        restartButton = styleButton("RESTART GAME", UITheme.BUTTON_RED, Color.BLACK);
+        restartButton.setAlignmentX(CENTER_ALIGNMENT); restartButton.setMaximumSize(new Dimension(280, 45));
+        restartButton.setFont(AppFonts.BOLD.deriveFont(14f));
+        restartButton.setFocusable(false); // CRITICAL: PREVENT ENTER KEY TRIGGER
+        restartButton.addActionListener(e -> showRestartConfirmDialog(() -> {
+            askPlayerNames();
+            initGameData(); updateGraphics();
+        }));
+
+        // KECEPATAN ANIMASI
+        String[] speeds = {"0.5x", "1x", "2x", "4x", "Skip"};
+        JComboBox<String> speedBox = new JComboBox<>(speeds);
+        speedBox.setSelectedIndex(1); speedBox.setFocusable(false);
+        speedBox.setFont(AppFonts.REGULAR.deriveFont(12f)); speedBox.setMaximumSize(new Dimension(280, 28));
+        speedBox.setAlignmentX(CENTER_ALIGNMENT);
+        speedBox.addActionListener(e -> {
+            int i = speedBox.getSelectedIndex();
+            animator.setSkip(i == speeds.length-1);
+            if(i < speeds.length-1) animator.setSpeed(Double.parseDouble(speeds[i].replace("x", "")));
+        });
+
+        historyList = new JList<>(turnLog); historyList.setFocusable(false);
+        historyList.setFont(AppFonts.MONO.deriveFont(12f)); historyList.setBackground(new Color(30,30,46));
+        historyList.setForeground(new Color(166,227,161)); historyList.setBorder(BorderFactory.createEmptyBorder(10,10,10,10));
+        historyList.setFixedCellHeight(historyList.getFontMetrics(historyList.getFont()).getHeight()); // TANPA UKUR SEMUA BARIS
+        historyList.setPrototypeCellValue("#100 Player 1: 100 -> 100 (LINK -> 100) [+100 pts]");
+        historyList.setVisibleRowCount(10);
+        JScrollPane sp = new JScrollPane(historyList);
+        sp.setBorder(BorderFactory.createTitledBorder(new LineBorder(Color.GRAY), "Game Log", 0, 0, AppFonts.BOLD.deriveFont(12f), Color.WHITE));
+        sp.setOpaque(false); sp.getViewport().setOpaque(false); sp.setAlignmentX(CENTER_ALIGNMENT);
+
+        side.add(statusLabel); side.add(Box.createRigidArea(new Dimension(0, 15)));
+        side.add(scoreboardPanel); side.add(Box.createRigidArea(new Dimension(0, 20)));
+        side.add(diceImageLabel); side.add(diceTextLabel); side.add(hintLabel); side.add(tourneyLabel); side.add(Box.createRigidArea(new Dimension(0, 20)));
+        side.add(speedBox); side.add(Box.createRigidArea(new Dimension(0, 10)));
+        side.add(createTimelineBar()); side.add(timelineLabel); side.add(Box.createRigidArea(new Dimension(0, 20)));
+        side.add(restartButton); side.add(Box.createRigidArea(new Dimension(0, 20)));
+        side.add(sp); side.add(Box.createRigidArea(new Dimension(0, 8)));
+        side.add(createLogTools());
+
+        p.add(boardCanvas, BorderLayout.CENTER); p.add(side, BorderLayout.EAST);
+        return p;
+    }
+
+    // TIMELINE: undo/redo (Ctrl+Z / Ctrl+Y) + slider untuk lompat ke giliran mana pun
+    private JPanel createTimelineBar() {
+        JPanel t = new JPanel(new BorderLayout(6, 0)); t.setOpaque(false);
+        t.setMaximumSize(new Dimension(280, 30)); t.setAlignmentX(CENTER_ALIGNMENT);
+        undoButton = styleButton("<", UITheme.BG_DARK, Color.WHITE); redoButton = styleButton(">", UITheme.BG_DARK, Color.WHITE);
+        for(JButton b : new JButton[]{undoButton, redoButton}) { b.setFocusable(false); b.setFont(AppFonts.BOLD.deriveFont(12f)); }
+        undoButton.addActionListener(e -> jumpTo(timeline.cursor()-1));
+        redoButton.addActionListener(e -> jumpTo(timeline.cursor()+1));
+        timelineSlider = new JSlider(0, 0, 0); timelineSlider.setOpaque(false); timelineSlider.setFocusable(false);
+        timelineSlider.addChangeListener(e -> { if(!syncingTimeline) jumpTo(timelineSlider.getValue()); });
+        timelineLabel = new JLabel(" "); timelineLabel.setFont(AppFonts.MONO.deriveFont(11f));
+        timelineLabel.setForeground(UITheme.TEXT_SUB); timelineLabel.setAlignmentX(CENTER_ALIGNMENT);
+        t.add(undoButton, BorderLayout.WEST); t.add(timelineSlider, BorderLayout.CENTER); t.add(redoButton, BorderLayout.EAST);
+        return t;
+    }
+
+    private JPanel createLogTools() {
+        JPanel t = new JPanel(new BorderLayout(6, 0)); t.setOpaque(false);
+        t.setMaximumSize(new Dimension(280, 30)); t.setAlignmentX(CENTER_ALIGNMENT);
+        JTextField q = new JTextField(); q.setFont(AppFonts.REGULAR.deriveFont(12f));
+        q.addActionListener(e -> searchLog(q.getText().trim()));
+        JButton ex = styleButton("Export", UITheme.BG_DARK, Color.WHITE); ex.setFocusable(false);
+        ex.setFont(AppFonts.BOLD.deriveFont(11f)); ex.addActionListener(e -> exportLog());
+        t.add(q, BorderLayout.CENTER); t.add(ex, BorderLayout.EAST);
+        return t;
+    }
+
+    private void searchLog(String needle) {
+        if(needle.isEmpty()) return;
+        new SwingWorker<List<String>, Void>() {
+            @Override protected List<String> doInBackground() throws IOException { return turnLog.search(needle, 500); }
+            @Override protected void done() {
+                try {
+                    List<String> hits = get();
+                    JList<String> l = new JList<>(hits.toArray(new String[0])); l.setFont(AppFonts.MONO.deriveFont(12f));
+                    JScrollPane sp = new JScrollPane(l); sp.setPreferredSize(new Dimension(480, 320));
+                    JOptionPane.showMessageDialog(SnakeDijkstraGUI.this, hits.isEmpty() ? "Tidak ditemukan: " + needle : sp,
+                            "Cari Log (" + hits.size() + ")", JOptionPane.PLAIN_MESSAGE);
+                } catch(Exception e) { toasts.show("LOG", "Pencarian gagal: " + e.getMessage(), true); }
+            }
+        }.execute();
+    }
+
+    private void exportLog() {
+        JFileChooser fc = new JFileChooser(); fc.setSelectedFile(new File("snake_turns_export.txt"));
+        if(fc.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try { turnLog.exportTo(fc.getSelectedFile().toPath()); }
+        catch(IOException e) { toasts.show("LOG", "Export gagal: " + e.getMessage(), true); }
+    }
+
+    private void askPlayerNames() {
+        playerNames = new String[playerCount];
+        botSeat = new boolean[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            String def = "Player " + (i + 1);
+            JTextField name = new JTextField(def, 16);
+            JCheckBox bot = new JCheckBox("Bot (lempar otomatis)");
+            JPanel form = new JPanel(new GridLayout(0, 1, 4, 4));
+            form.add(new JLabel("Masukkan Nama Player " + (i + 1))); form.add(name); form.add(bot);
+            boolean ok = JOptionPane.showConfirmDialog(this, form, "Player Name", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) == JOptionPane.OK_OPTION;
+            String input = ok ? name.getText() : null;
+            playerNames[i] = (input != null && !input.trim().isEmpty()) ? input.trim() : def;
+            botSeat[i] = ok && bot.isSelected();
+        }
+    }
+
+    private void startTournament(int count) {
+        String in = JOptionPane.showInputDialog(this, "Jumlah game turnamen", "1000");
+        if(in == null) return;
+        int games;
+        try { games = Math.max(1, Integer.parseInt(in.trim())); } catch(NumberFormatException e) { toasts.show("TURNAMEN", "Jumlah game tidak valid: " + in, true); return; }
+        playerCount = count;
+        playerNames = new String[count]; botSeat = new boolean[count];
+        for(int i=0; i<count; i++) { playerNames[i] = "Bot " + (i+1); botSeat[i] = true; }
+        replayRolls = null;
+        tournament = new Tournament(count, games);
+        tourneyTicker.start();
+        initGameData(SeededGame.newSeed(), SeededGame.fairFits(boardSize)); updateGraphics();
+        cardLayout.show(mainContainer, "GAME");
+        setupGameInput();
+    }
+
+    private void updateTourneyLabel() {
+        tourneyLabel.setText(tournament == null ? " " : tournament.summary());
+        if(tournament == null || tournament.isDone()) tourneyTicker.stop();
+    }
+
+    private void tournamentGameOver(int winner) {
+        tournament.record(winner, game.turnsPlayed());
+        updateTourneyLabel();
+        if(tournament.isDone()) {
+            toasts.show("TURNAMEN SELESAI", tournament.summary(), false);
+            inputEnabled = false;
+            return;
+        }
+        Tournament t = tournament;
+        later(() -> { if(tournament == t) { initGameData(SeededGame.newSeed(), SeededGame.fairFits(boardSize)); updateGraphics(); } });
+    }
+
+    private void requestRoll() {
+        turnStartNs = System.nanoTime();
+        if(!onlineGame && net == null) { playTurn(); return; }
+        if(net == null) return; // permainan online tanpa koneksi
+        inputEnabled = false; // server yang melempar dadu; hasilnya datang sebagai TURN
+        net.send("ROLL " + netRoom);
+    }
+
+    private void joinOnline() {
+        JTextField addr = new JTextField("127.0.0.1:7777", 16), room = new JTextField("lobby", 16), name = new JTextField("Player", 16);
+        JComboBox<Integer> count = new JComboBox<>(new Integer[]{2, 3, 4});
+        JPanel form = new JPanel(new GridLayout(0, 2, 6, 6));
+        form.add(new JLabel("Server")); form.add(addr); form.add(new JLabel("Room")); form.add(room);
+        form.add(new JLabel("Nama")); form.add(name); form.add(new JLabel("Pemain")); form.add(count);
+        if(JOptionPane.showConfirmDialog(this, form, "Main Online", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) return;
+        leaveOnline();
+        String[] hp = addr.getText().trim().split(":");
+        GameClient[] self = new GameClient[1];
+        try {
+            self[0] = new GameClient(hp[0], hp.length > 1 ? Integer.parseInt(hp[1]) : 7777, l -> SwingUtilities.invokeLater(() -> onServer(self[0], l)));
+        } catch(IOException | NumberFormatException e) { toasts.show("ONLINE", "Gagal konek: " + e.getMessage(), true); return; }
+        net = self[0]; netRoom = room.getText().trim().replace(' ', '_'); netSeat = 0;
+        String nm = name.getText().trim().isEmpty() ? "Player" : name.getText().trim().replace(' ', '_');
+        net.send("JOIN " + netRoom + " " + count.getSelectedItem() + " " + nm);
+        replayRolls = null; if(tournament != null) { tournament = null; updateTourneyLabel(); }
+        inputEnabled = false;
+        statusLabel.setText("MENUNGGU PEMAIN..."); statusLabel.setForeground(UITheme.TEXT_SUB);
+        cardLayout.show(mainContainer, "GAME");
+        setupGameInput();
+    }
+
+    private void leaveOnline() {
+        if(net != null) { net.send("LEAVE " + netRoom); net.close(); net = null; }
+        netRolls.clear(); netBusy = false;
+    }
+
+    // Pesan server, selalu di EDT. Papan dibangun ulang dari seed, lemparan diterapkan persis seperti replay
+    private void onServer(GameClient from, String line) {
+        if(from != net) return; // koneksi lama
+        if(line == null) { net = null; netRolls.clear(); netBusy = false; inputEnabled = false; toasts.show("ONLINE", "Koneksi ke server terputus", true); return; }
+        String[] p = line.split(" ");
+        switch(p[0]) {
+            case "SEAT": netSeat = Integer.parseInt(p[2]); break;
+            case "START": {
+                if(Integer.parseInt(p[3]) != boardSize) { toasts.show("ONLINE", "Server memakai papan " + p[3] + "x" + p[3], true); leaveOnline(); return; }
+                playerCount = p.length-5;
+                playerNames = new String[playerCount]; botSeat = new boolean[playerCount];
+                for(int i=0; i<playerCount; i++) playerNames[i] = p[5+i].replace('_', ' ') + (i+1 == netSeat ? " (You)" : "");
+                netRolls.clear(); netBusy = false;
+                initGameData(Long.parseLong(p[2]), p[4].equals("1")); updateGraphics();
+                toasts.show("ONLINE", "Room " + netRoom + ": kamu Player " + netSeat, false);
+                break;
+            }
+            case "TURN": {
+                int val = Integer.parseInt(p[4]);
+                netRolls.add(p[3].equals("1") ? val : -val);
+                if(!netBusy) { netBusy = true; playTurn(); }
+                break;
+            }
+            case "ERR":
+                toasts.show("SERVER", p.length > 2 ? p[2] : line, true);
+                if(game != null && !netBusy && !game.isOver()) inputEnabled = game.currentPlayer() == netSeat;
+                break;
+            case "CLOSED": toasts.show("ONLINE", "Pemain lain keluar dari room", true); leaveOnline(); inputEnabled = false; break;
+            default: break;
+        }
+    }
+
+    private boolean autoSeat(int pid) { return replayRolls != null || tournament != null || (pid-1 < botSeat.length && botSeat[pid-1]); }
+
+    // GILIRAN OTOMATIS (BOT/REPLAY/TURNAMEN). Mode Skip: antrikan ke EDT, bukan rekursi di satu stack
+    private void later(Runnable r) {
+        if(animator.isSkip()) SwingUtilities.invokeLater(r); else animator.delay(AUTO_TURN_MS, r);
+    }
+
+    private void scheduleAutoTurn() {
+        GameState g = game;
+        later(() -> { if(game == g && !g.isOver()) playTurn(); });
+    }
+
+    private void initGameData() {
+        replayRolls = null;
+        leaveOnline();
+        if(tournament != null) { tournament = null; updateTourneyLabel(); }
+        initGameData(SeededGame.newSeed(), SeededGame.fairFits(boardSize));
+    }
+
+    private void initGameData(long seed, boolean fair) {
+        turnStartNs = 0;
+        setup = new SeededGame(seed, boardSize, playerCount, fair);
+        board = setup.board; shortcuts = setup.rules.shortcuts(); boardCanvas.layoutChanged(board, shortcuts);
+        game = new GameState(setup.rules, playerCount);
+        game.setListener(viewUpdates); viewUpdates.reset(game); skippedRoll = 0;
+        timeline = new Timeline(game); turnInFlight = false; onlineGame = net != null;
+        if(replayRolls == null && net == null) record(w -> w.beginGame(seed, boardSize, playerCount, fair));
+        boardGraph = new BoardGraph(game.rules, BoardGraph.Metric.ROLLS);
+
+        inputEnabled = net != null ? netSeat == 1 : !autoSeat(1); // Allow input (bot/replay berjalan sendiri)
+        scoreboardPanel.init(playerCount, playerNames, highScoreManager);
+        scoreboardPanel.updateScores(game.scores());
+        prepareOdds();
+        turnLog.startGame(replayRolls != null ? "Replay" : "Game Started!", seed, playerNames);
+        statusLabel.setText(playerNames[0].toUpperCase() + " TURN");
+        statusLabel.setForeground(playerTextColors[0]);
+        scoreboardPanel.highlight(1);
+        diceImageLabel.setIcon(createDiceImage(1, 100, Color.BLACK));
+        diceTextLabel.setText("Click Dice or Enter"); diceTextLabel.setForeground(UITheme.TEXT_MAIN);
+        updateHint(1);
+        updateTimelineControls();
+        if(net == null && autoSeat(1)) scheduleAutoTurn();
+    }
+
+    // PELUANG MENANG: tabel per layout dibangun di thread latar (bisa puluhan ms); build lama yang belum jalan dibatalkan
+    private void prepareOdds() {
+        GameRules rules = game.rules;
+        if(rules == oddsRules) { updateOdds(); return; }
+        if(oddsBuild != null) oddsBuild.cancel(false);
+        odds = null; oddsRules = rules; oddsBuild = null;
+        for(int p=1; p<=playerCount; p++) scoreboardPanel.setOdds(p, rules.goal > WinOdds.MAX_SQUARES ? "" : "Win ...");
+        if(rules.goal > WinOdds.MAX_SQUARES) return;
+        oddsBuild = CompletableFuture.supplyAsync(() -> new WinOdds(rules));
+        oddsBuild.thenAccept(o -> SwingUtilities.invokeLater(() -> {
+            if(oddsRules != rules) return;
+            odds = o; updateOdds();
+        }));
+    }
+
+    // Dipanggil sekali per frame view (setelah finalizeTurn); hanya lookup tabel, beberapa mikrodetik
+    private void updateOdds() {
+        if(odds == null || game == null || game.rules != oddsRules) return;
+        long t0 = System.nanoTime();
+        int n = game.turnOrder(oddsOrder);
+        for(int p=1; p<=playerCount; p++) oddsPos[p-1] = game.position(p);
+        if(game.isOver()) for(int p=1; p<=playerCount; p++) oddsWin[p-1] = p == game.winner() ? 1 : 0;
+        else odds.compute(oddsPos, oddsOrder, n, oddsWin);
+        String approx = odds.exact() ? "" : "~";
+        for(int p=1; p<=playerCount; p++)
+            scoreboardPanel.setOdds(p, String.format("Win %s%.0f%% | %.1f t", approx, 100*oddsWin[p-1], odds.expectedTurns(oddsPos[p-1])));
+        Metrics.ODDS.record(System.nanoTime()-t0);
+    }
+
+    private void showTurn(int pid) {
+        statusLabel.setText(playerNames[pid-1].toUpperCase() + " TURN");
+        statusLabel.setForeground(playerTextColors[(pid-1)%playerTextColors.length]);
+        scoreboardPanel.highlight(pid);
+        updateHint(pid);
+    }
+
+    // TIMELINE: hanya permainan lokal (bukan online/replay/turnamen) dan tidak di tengah animasi giliran
+    private boolean canTravel() { return timeline != null && net == null && !onlineGame && tournament == null && replayRolls == null && !turnInFlight; }
+
+    // Lompat ke giliran k: satu load snapshot + isi ulang log (paling banyak TurnLog.CAPACITY giliran), tanpa replay dari awal
+    private void jumpTo(int k) {
+        if(!canTravel() || k < 0 || k > timeline.last() || k == timeline.cursor()) return;
+        timeline.moveTo(k);
+        game = timeline.state(k, setup.rules); // objek baru: giliran bot yang sudah dijadwalkan untuk state lama batal sendiri
+        game.setListener(viewUpdates); viewUpdates.reset(game); skippedRoll = 0; turnStartNs = 0;
+        refillLog(k);
+        updateGraphics(); scoreboardPanel.updateScores(game.scores());
+        int r = k == 0 ? 0 : timeline.roll(k);
+        if(r != 0) showDice(r > 0, Math.abs(r));
+        else { diceImageLabel.setIcon(createDiceImage(1, 100, Color.BLACK)); diceTextLabel.setText("Click Dice or Enter"); diceTextLabel.setForeground(UITheme.TEXT_MAIN); }
+        if(game.isOver()) { statusLabel.setText(playerNames[game.winner()-1].toUpperCase() + " WINS"); scoreboardPanel.highlight(game.winner()); }
+        else showTurn(game.currentPlayer());
+        updateOdds(); updateTimelineControls();
+        // Di tengah timeline siapa pun boleh melempar (membuat cabang); di ujung, kursi bot jalan lagi seperti biasa
+        inputEnabled = !timeline.finished() && !(timeline.atEnd() && autoSeat(game.currentPlayer()));
+        if(!timeline.finished() && timeline.atEnd() && autoSeat(game.currentPlayer())) scheduleAutoTurn();
+    }
+
+    private void refillLog(int k) {
+        int first = Math.max(1, k - TurnLog.CAPACITY + 1);
+        GameState g = timeline.state(first-1, setup.rules);
+        turnLog.beginRestore(first);
+        for(int i=first; i<=k; i++) {
+            int r = timeline.roll(i);
+            Turn t = g.apply(r > 0, Math.abs(r));
+            turnLog.add(t.pid, t.from, t.stop, t.link, t.points, t.doubleTurn, t.won);
+        }
+        turnLog.endRestore();
+        historyList.ensureIndexIsVisible(turnLog.getSize()-1);
+    }
+
+    // Giliran baru setelah rewind: game ditulis ulang ke file replay
+    // (seed + lemparan sampai titik cabang) supaya replay terakhir tetap sama dengan yang terlihat.
+    // Dadu cabang lanjut dari state RNG sekarang, bukan dari seed: event FREE menandai mulai dari giliran mana
+    // verifier berhenti mencocokkan dadu.
+    private void branch() {
+        int k = timeline.cursor(), seeded = Math.min(timeline.seededTurns(), k);
+        turnLog.note("-- cabang baru dari giliran #" + k);
+        record(w -> {
+            w.beginGame(setup.seed, boardSize, playerCount, setup.fair);
+            GameState g = timeline.state(0, setup.rules);
+            for(int i=1; i<=k; i++) {
+                if(i == seeded+1) w.diceFree();
+                int r = timeline.roll(i); w.turn(g.apply(r > 0, Math.abs(r)));
+            }
+            if(seeded == k) w.diceFree();
+        });
+    }
+
+    // Dipanggil sekali per frame view (bukan per giliran), jadi autoplay cepat tidak memicu event slider tiap giliran
+    private void updateTimelineControls() {
+        if(timelineSlider == null || timeline == null) return;
+        boolean on = canTravel();
+        syncingTimeline = true;
+        if(timelineSlider.getMaximum() != timeline.last()) timelineSlider.setMaximum(timeline.last());
+        if(timelineSlider.getValue() != timeline.cursor()) timelineSlider.setValue(timeline.cursor());
+        syncingTimeline = false;
+        if(timelineSlider.isEnabled() != on) timelineSlider.setEnabled(on);
+        if(undoButton.isEnabled() != (on && timeline.cursor() > 0)) undoButton.setEnabled(on && timeline.cursor() > 0);
+        if(redoButton.isEnabled() != (on && !timeline.atEnd())) redoButton.setEnabled(on && !timeline.atEnd());
+        String t = on || timeline.last() > 0 ? "Giliran " + timeline.cursor() + " / " + timeline.last() : " ";
+        if(!t.equals(timelineLabel.getText())) timelineLabel.setText(t);
+    }
+
+    private void updateHint(int pid) {
+        int d = boardGraph.rollsToGoal(game.position(pid));
+        hintLabel.setText("Tercepat: " + d + " lemparan ke " + game.rules.goal + " (papan: " + boardGraph.difficulty() + ")");
+    }
+
+    private interface ReplayOp { void accept(ReplayWriter w) throws IOException; }
+
+    //REKAM: GAGAL TULIS TIDAK BOLEH MENGHENTIKAN PERMAINAN
+    private void record(ReplayOp op) {
+        try {
+            if(replayWriter == null) replayWriter = new ReplayWriter(REPLAY_FILE);
+            op.accept(replayWriter);
+        } catch(IOException e) { System.err.println("Replay disabled: " + e); replayWriter = null; }
+    }
+
+    private void startReplay() {
+        LastGameCollector last = new LastGameCollector();
+        if(Files.exists(REPLAY_FILE)) {
+            try (ReplayReader r = new ReplayReader(REPLAY_FILE)) { r.readAll(last); }
+            catch(IOException e) { System.err.println("Replay unreadable: " + e); }
+        }
+        if(last.rolls.length == 0) { toasts.show("REPLAY", "Belum ada permainan yang selesai.", true); return; }
+        if(last.size != boardSize) { toasts.show("REPLAY", "Replay dibuat untuk papan " + last.size + "x" + last.size + ".", true); return; }
+        playerCount = last.players;
+        playerNames = new String[playerCount];
+        for(int i=0; i<playerCount; i++) playerNames[i] = "Player " + (i+1);
+        replayRolls = last.rolls; replayIdx = 0; tournament = null; updateTourneyLabel();
+        initGameData(last.seed, last.fair); updateGraphics();
+        cardLayout.show(mainContainer, "GAME");
+        setupGameInput();
+    }
+
+    private void initBoardLogic() {
+        board = new BoardLayout(boardSize, random);
+        boardCanvas.layoutChanged(board, shortcuts);
+    }
+
+    private void playTurn() {
+        if(game==null || game.isOver()) return;
+        // Lemparan online diambil sebelum animasi: START baru atau koneksi putus selama 500ms tidak boleh mengubah sumbernya
+        final int netRoll;
+        if(net != null) {
+            Integer r = netRolls.poll();
+            if(r == null) { netBusy = false; inputEnabled = game.currentPlayer() == netSeat; return; }
+            netRoll = r;
+        } else netRoll = 0;
+        if(turnStartNs == 0) turnStartNs = System.nanoTime();
+        inputEnabled = false; turnInFlight = true; // Disable input
+        GameState g = game;
+        Runnable exec = () -> { if(game == g) execLogic(netRoll); }; // permainan sudah diganti: lemparan ini dibuang
+        if(animator.isSkip()) { exec.run(); return; } // tanpa animasi/suara: view menyusul sekali per frame
+        SoundManager.play("dice.wav");
+
+        final int[] shown = {-1};
+        animator.play(diceImageLabel, 500, p -> {
+            int f = (int)(p*10); // 10 frame acak selama 500ms
+            if(f != shown[0] && f < 10) { shown[0] = f; diceImageLabel.setIcon(createDiceImage(random.nextInt(6)+1, 100, Color.LIGHT_GRAY)); }
+        }, exec);
+    }
+
+    // netRoll != 0: lemparan dari server (signed: + hijau, - merah)
+    private void execLogic(int netRoll) {
+        //GILIRAN + PROBABILISTIK DADU: DIHITUNG ENGINE, GUI HANYA MENAMPILKAN
+        Turn turn;
+        if(replayRolls != null) { int r = replayRolls[replayIdx++]; turn = game.apply(r > 0, Math.abs(r)); }
+        else if(netRoll != 0) turn = game.apply(netRoll > 0, Math.abs(netRoll));
+        else {
+            if(!timeline.atEnd()) branch();
+            turn = game.step(setup.dice); Turn t = turn; record(w -> w.turn(t));
+        }
+        timeline.push(game, turn);
+        int pid = turn.pid, cur = turn.from, val = turn.val, pts = turn.points;
+        boolean green = turn.green, dbl = turn.doubleTurn, won = turn.won;
+        if(animator.isSkip()) { skippedRoll = turn.signedRoll(); finalizeTurn(pid, cur, turn.stop, turn.link, pts, dbl, won); return; }
+        showDice(green, val);
+
+        final int[] finalPath = turn.path();
+        final int finalLink = turn.link, end = turn.stop;
+
+        animSeq(pid, cur, finalPath, 0, () -> {
+            if(finalLink != -1) {
+                SoundManager.play("magic.wav");
+                toasts.show("PRIME OVERFLOW!", "Shortest Path Activated!", false);
+                animator.delay(500, () -> animMove(pid, end, finalLink, () -> finalizeTurn(pid, cur, end, finalLink, pts, dbl, won)));
+            } else {
+                finalizeTurn(pid, cur, end, -1, pts, dbl, won);
+            }
+        });
+    }
+
+    private void showDice(boolean green, int val) {
+        diceImageLabel.setIcon(createDiceImage(val, 100, green ? UITheme.BUTTON_GREEN : UITheme.BUTTON_RED));
+        diceTextLabel.setText((green?"MAJU":"MUNDUR") + " " + val + " Langkah");
+        diceTextLabel.setForeground(green ? Color.GREEN : Color.RED);
+    }
+
+    private void animSeq(int pid, int cur, int[] path, int idx, Runnable done) {
+        if(idx>=path.length) { done.run(); return; }
+        int next = path[idx];
+        animMove(pid, cur, next, () -> animSeq(pid, next, path, idx+1, done));
+    }
+
+    private static final int STEP_MS = 300;
+
+    private void animMove(int pid, int s, int e, Runnable done) {
+        if(s==e) { done.run(); return; }
+        SoundManager.play("step.wav");
+        boardCanvas.reveal(e);
+        Point p1 = boardCanvas.cellCenter(s), p2 = boardCanvas.cellCenter(e);
+
+        animator.play(boardCanvas, STEP_MS, p -> {
+            double r = p*p*(3-2*p);
+            boardCanvas.setAnimPawn(pid, (int)(p1.x + (p2.x-p1.x)*r), (int)(p1.y + (p2.y-p1.y)*r));
+        }, () -> { boardCanvas.movePawn(pid, e); done.run(); });
+    }
+
+    private void finalizeTurn(int pid, int from, int stop, int link, int pts, boolean dbl, boolean won) {
+        boardCanvas.stopAnimation(); turnInFlight = false;
+        if(turnStartNs != 0) { Metrics.TURN.record(System.nanoTime()-turnStartNs); turnStartNs = 0; }
+        turnLog.add(pid, from, stop, link, pts, dbl, won);
+        viewUpdates.publish(); //VIEW: HANYA YANG BERUBAH, PALING BANYAK SEKALI PER FRAME
+        if(won && tournament == null) viewUpdates.flush(); // skor akhir tampil sebelum dialog game over
+        if(won && replayRolls == null) GameArchive.appendAsync(setup.seed, boardSize, setup.fair, setup.rules, playerNames.clone(), timeline.rolls());
+
+        if(won && tournament != null) { tournamentGameOver(pid); return; }
+        if(won && onlineGame) { netBusy = false; showCustomGameOverDialog(pid); return; }
+        if(won && replayRolls != null) { showCustomGameOverDialog(pid); return; }
+        if(won) {
+            for(int i=1; i<=playerCount; i++) highScoreManager.recordResult(playerNames[i-1], game.score(i));
+            highScoreManager.saveScore(playerNames[pid-1], game.score(pid));
+            showCustomGameOverDialog(pid); return;
+        }
+        //DADU DOUBLE KALO KELIPATAN 5 (ANTRIAN SUDAH DIATUR ENGINE)
+        if(dbl && !animator.isSkip()) toasts.show("DOUBLE TURN!", "Kelipatan 5 detected.", false);
+
+        int next = game.currentPlayer();
+
+        if(onlineGame) {
+            if(net == null) { inputEnabled = false; return; } // koneksi putus saat animasi: jangan lanjut secara lokal
+            netBusy = !netRolls.isEmpty();
+            if(netBusy) later(this::playTurn); else inputEnabled = next == netSeat;
+            return;
+        }
+        if(autoSeat(next)) { scheduleAutoTurn(); return; }
+        inputEnabled = true; // Re-enable input
+    }
+
+    private void showPlayerSelectionDialog(Consumer<Integer> onSel) {
+        JDialog d = new JDialog(this, true); d.setUndecorated(true); d.setBackground(new Color(0,0,0,0));
+        JPanel p = new JPanel(new GridLayout(0,1,10,10)); p.setBackground(UITheme.BG_DARK);
+        p.setBorder(new CompoundBorder(new LineBorder(UITheme.BUTTON_GREEN, 2), new EmptyBorder(20,40,20,40)));
+        JLabel l = new JLabel("Pilih Jumlah Pemain"); l.setFont(AppFonts.BOLD.deriveFont(18f)); l.setForeground(Color.WHITE); l.setHorizontalAlignment(SwingConstants.CENTER);
+        p.add(l);
+        for(int i=2; i<=4; i++) {
+            int c = i; JButton b = styleButton(i+" Players", UITheme.BG_PANEL, Color.WHITE);
+            b.addActionListener(e->{ d.dispose(); onSel.accept(c); }); p.add(b);
+        }
+        d.add(p); d.pack(); d.setLocationRelativeTo(this); d.setVisible(true);
+    }
+
+    private void showRestartConfirmDialog(Runnable onYes) {
+        JDialog d = new JDialog(this, true); d.setUndecorated(true); d.setBackground(new Color(0,0,0,0));
+        JPanel c = new JPanel(); c.setLayout(new BoxLayout(c, BoxLayout.Y_AXIS)); c.setBackground(UITheme.BG_DARK);
+        c.setBorder(new CompoundBorder(new LineBorder(UITheme.BUTTON_RED, 2), new EmptyBorder(20,20,20,20)));
+        JLabel l = new JLabel("Ulangi Permainan?"); l.setFont(AppFonts.BOLD.deriveFont(16f)); l.setForeground(Color.WHITE); l.setAlignmentX(CENTER_ALIGNMENT);
+        JPanel bp = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0)); bp.setOpaque(false);
+        JButton by = styleButton("Ya", UITheme.BUTTON_GREEN, Color.BLACK); by.addActionListener(e->{d.dispose(); onYes.run();});
+        JButton bn = styleButton("Batal", UITheme.BUTTON_RED, Color.BLACK); bn.addActionListener(e->d.dispose());
+        bp.add(by); bp.add(bn);
+        c.add(l); c.add(Box.createRigidArea(new Dimension(0,20))); c.add(bp);
+        d.add(c); d.pack(); d.setLocationRelativeTo(this); d.setVisible(true);
+    }
+
+    private void showCustomGameOverDialog(int fin) {
+        SoundManager.play("hidup-jokowi.wav");
+        JDialog d = new JDialog(this, true); d.setUndecorated(true); d.setBackground(new Color(0,0,0,0));
+        JPanel m = new JPanel(); m.setLayout(new BoxLayout(m, BoxLayout.Y_AXIS)); m.setBackground(UITheme.BG_DARK);
+        m.setBorder(new CompoundBorder(new LineBorder(UITheme.ACCENT, 2), new EmptyBorder(20,30,20,30)));
+        JLabel h = new JLabel("GAME OVER!"); h.setFont(AppFonts.BOLD.deriveFont(32f)); h.setForeground(UITheme.BUTTON_RED); h.setAlignmentX(CENTER_ALIGNMENT);
+        JLabel s = new JLabel(playerNames[fin-1] + " Finished!"); s.setFont(AppFonts.REGULAR.deriveFont(16f)); s.setForeground(UITheme.TEXT_MAIN); s.setAlignmentX(CENTER_ALIGNMENT);
+
+        int[] rk = new int[playerCount]; //RANKING: insertion sort, maksimal 4 pemain
+        for(int i=0; i<playerCount; i++) {
+            int j = i;
+            while(j>0 && game.score(rk[j-1]) < game.score(i+1)) { rk[j] = rk[j-1]; j--; }
+            rk[j] = i+1;
+        }
+
+        StringBuilder ht = new StringBuilder("<html><table style='width:300px; border-collapse:collapse;'>");
+        for(int i=0; i<rk.length; i++) {
+            int pid = rk[i], sc = game.score(pid);
+            String name = playerNames[pid-1];
+            String cl = (i==0)?"#A6E3A1":"#CDD6F4", md=(i==0)?"🏆":"";
+            ht.append(String.format("<tr><td style='padding:5px; color:%s; font-size:14px;'>#%d %s</td><td style='text-align:right; color:%s; font-weight:bold;'>%d pts %s</td></tr>", cl, i+1, name, cl, sc, md));
+        }
+        ht.append("</table></html>");
+        JLabel tbl = new JLabel(ht.toString()); tbl.setAlignmentX(CENTER_ALIGNMENT);
+
+        JPanel bp = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 0)); bp.setOpaque(false);
+        JButton br = styleButton("Main Lagi", UITheme.BUTTON_GREEN, Color.BLACK); br.setPreferredSize(new Dimension(100,35));
+        br.addActionListener(e->{d.dispose(); askPlayerNames(); initGameData(); updateGraphics();});
+        JButton be = styleButton("Keluar", UITheme.BUTTON_RED, Color.BLACK); be.setPreferredSize(new Dimension(100,35));
+        be.addActionListener(e->System.exit(0));
+        bp.add(br); bp.add(be);
+
+        m.add(h); m.add(Box.createRigidArea(new Dimension(0,10))); m.add(s); m.add(Box.createRigidArea(new Dimension(0,20)));
+        m.add(tbl); m.add(Box.createRigidArea(new Dimension(0,25))); m.add(bp);
+        d.add(m); d.pack(); d.setLocationRelativeTo(this); d.setVisible(true);
+    }
+
+    private static final int LEADERBOARD_PAGE = 10;
+
+    private void showLeaderboardDialog() {
+        Leaderboard board = highScoreManager.leaderboard();
+        JDialog d = new JDialog(this, true); d.setUndecorated(true); d.setBackground(new Color(0,0,0,0));
+        JPanel m = new JPanel(); m.setLayout(new BoxLayout(m, BoxLayout.Y_AXIS)); m.setBackground(UITheme.BG_DARK);
+        m.setBorder(new CompoundBorder(new LineBorder(UITheme.BUTTON_BLUE, 2), new EmptyBorder(20,30,20,30)));
+        JLabel h = new JLabel("LEADERBOARD"); h.setFont(AppFonts.BOLD.deriveFont(28f)); h.setForeground(UITheme.ACCENT); h.setAlignmentX(CENTER_ALIGNMENT);
+        JLabel tbl = new JLabel(); tbl.setAlignmentX(CENTER_ALIGNMENT);
+        JLabel info = new JLabel(" "); info.setFont(AppFonts.REGULAR.deriveFont(12f)); info.setForeground(UITheme.TEXT_SUB); info.setAlignmentX(CENTER_ALIGNMENT);
+        int[] page = {0};
+        Runnable render = () -> {
+            int pages = Math.max(1, (board.size()+LEADERBOARD_PAGE-1)/LEADERBOARD_PAGE);
+            page[0] = Math.max(0, Math.min(page[0], pages-1));
+            StringBuilder ht = new StringBuilder("<html><table style='width:320px; border-collapse:collapse;'>");
+            for(Leaderboard.Entry e : board.page(page[0], LEADERBOARD_PAGE)) {
+                String cl = e.rank==1 ? "#A6E3A1" : "#CDD6F4";
+                ht.append(String.format("<tr><td style='padding:3px; color:%s;'>#%d %s</td><td style='text-align:right; color:%s; font-weight:bold;'>%d pts</td></tr>", cl, e.rank, e.name, cl, e.score));
+            }
+            tbl.setText(ht.append("</table></html>").toString());
+            info.setText("Halaman " + (page[0]+1) + " / " + pages + "  (" + board.size() + " pemain)");
+            d.pack();
+        };
+
+        JTextField search = new JTextField(12); search.setMaximumSize(new Dimension(200, 28));
+        search.addActionListener(e -> {
+            String name = search.getText().trim();
+            int r = name.isEmpty() ? 0 : board.rankOf(name);
+            int[] hist = name.isEmpty() ? new int[0] : board.history(name);
+            if(r == 0) { info.setText(hist.length == 0 ? "'" + name + "' tidak ditemukan" : name + ": belum pernah menang, riwayat " + Arrays.toString(hist)); return; }
+            page[0] = (r-1)/LEADERBOARD_PAGE; render.run();
+            info.setText(name + ": rank #" + r + ", riwayat " + Arrays.toString(hist));
+        });
+
+        JPanel bp = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0)); bp.setOpaque(false);
+        JButton prev = styleButton("<", UITheme.BG_PANEL, Color.WHITE); prev.addActionListener(e -> { page[0]--; render.run(); });
+        JButton nextB = styleButton(">", UITheme.BG_PANEL, Color.WHITE); nextB.addActionListener(e -> { page[0]++; render.run(); });
+        JButton close = styleButton("Tutup", UITheme.BUTTON_RED, Color.BLACK); close.addActionListener(e -> d.dispose());
+        bp.add(prev); bp.add(search); bp.add(nextB); bp.add(close);
+
+        m.add(h); m.add(Box.createRigidArea(new Dimension(0,15))); m.add(tbl);
+        m.add(Box.createRigidArea(new Dimension(0,10))); m.add(info); m.add(Box.createRigidArea(new Dimension(0,15))); m.add(bp);
+        d.add(m); render.run(); d.setLocationRelativeTo(this); d.setVisible(true);
+    }
+
+    private void updateGraphics() {
+        int[] pos = new int[playerCount];
+        for(int i=0; i<playerCount; i++) pos[i] = game.position(i+1);
+        boardCanvas.setPawns(pos);
+    }
+
+    private JButton styleButton(String t, Color bg, Color fg) {
+        JButton b = new JButton(t); b.setFont(AppFonts.BOLD.deriveFont(18f)); b.setBackground(bg); b.setForeground(fg);
+        b.setFocusPainted(false); b.setBorderPainted(false); b.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        b.setContentAreaFilled(false); b.setOpaque(true);
+        b.addMouseListener(new MouseAdapter() { public void mouseEntered(MouseEvent e){b.setBackground(bg.brighter());} public void mouseExited(MouseEvent e){b.setBackground(bg);} });
+        return b;
+    }
+    private ImageIcon createDiceImage(int v, int s, Color c) { return sprites.dice(v, s, c); }
+
+    public static void main(String[] args) {
+        if(args.length>0 && args[0].equals("--simulate")) { MonteCarloSimulator.main(args); return; }
+        if(args.length>0 && args[0].equals("--paint-bench")) { SpriteCache.bench(args); return; }
+        if(args.length>0 && args[0].equals("--server")) { try { GameServer.main(args); } catch(Exception e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--loadtest")) { try { LoadGenerator.main(args); } catch(Exception e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--tournament")) { Tournament.main(args); return; }
+        if(args.length>0 && args[0].equals("--fair-board")) { LayoutGenerator.main(args); return; }
+        if(args.length>0 && args[0].equals("--record")) { try { Replays.record(args); } catch(IOException e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--archive")) { try { GameArchive.generate(args); } catch(IOException e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--query")) { try { GameArchive.query(args); } catch(IOException e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--replay")) { try { Replays.replay(args); } catch(IOException e) { e.printStackTrace(); } return; }
+        if(args.length>0 && args[0].equals("--cds-train")) { // profil Maven cds: -XX:ArchiveClassesAtExit
+            if(GraphicsEnvironment.isHeadless()) { Startup.train(); System.exit(0); }
+            System.setProperty("snake.exitAfterStartup", "true");
+        }
+        Startup.begin(); // font, audio, skor mulai dimuat sebelum setLookAndFeel
+        try { UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName()); } catch(Exception e){}
+        int size = BoardLayout.DEFAULT_SIZE;
+        for(int i=0; i+1<args.length; i++) if(args[i].equals("--size")) size = Integer.parseInt(args[i+1]);
+        int boardSize = size;
+        SwingUtilities.invokeLater(() -> new SnakeDijkstraGUI(boardSize).setVisible(true));
+    }
+}
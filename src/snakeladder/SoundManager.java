@@ -0,0 +1,92 @@
+package snakeladder;
+
+import snakeladder.metrics.*;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import java.awt.*;
+import java.io.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Audio: file didekode sekali ke memori, tiap suara punya pool Clip yang dipakai ulang,
+// dan semua pemutaran lewat satu thread mixer. Suara dibuang kalau voice habis atau antrian menumpuk.
+public class SoundManager {
+    public static final String[] PRELOAD = {"step.wav", "spin.wav", "dice.wav", "magic.wav", "smb_jump-super.wav", "hidup-jokowi.wav"};
+    private static final int VOICES_PER_SOUND = 4, MAX_PENDING = 8;
+    private static final long COALESCE_NS = 25_000_000L; // suara sama dalam 25ms digabung
+    private static final Map<String, Sound> sounds = new ConcurrentHashMap<>();
+    private static final java.util.concurrent.atomic.AtomicInteger pending = new java.util.concurrent.atomic.AtomicInteger();
+    private static final ExecutorService mixer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "audio-mixer"); t.setDaemon(true); return t;
+    });
+    private static final java.util.concurrent.atomic.LongAdder played = new java.util.concurrent.atomic.LongAdder(),
+            dropped = new java.util.concurrent.atomic.LongAdder(), latencySum = new java.util.concurrent.atomic.LongAdder();
+    private static volatile long latencyMax;
+
+    private static class Sound {
+        final AudioFormat format; final byte[] pcm;
+        final List<Clip> voices = new ArrayList<>(); // hanya disentuh thread mixer
+        long lastStart;
+        Sound(AudioFormat format, byte[] pcm) { this.format = format; this.pcm = pcm; }
+    }
+
+    private static final Sound MISSING = new Sound(null, null);
+
+    public static void preload(String... names) {
+        for(String n : names) sound(n);
+    }
+
+    public static void play(String fName) {
+        long trigger = System.nanoTime();
+        if(pending.incrementAndGet() > MAX_PENDING) { pending.decrementAndGet(); dropped.increment(); return; }
+        mixer.execute(() -> {
+            try { start(fName, trigger); } finally { pending.decrementAndGet(); }
+        });
+    }
+
+    private static void start(String fName, long trigger) {
+        Sound s = sound(fName);
+        if(s == MISSING) return;
+        if(trigger - s.lastStart < COALESCE_NS) { dropped.increment(); return; }
+        Clip clip = null;
+        for(Clip c : s.voices) if(!c.isRunning()) { clip = c; break; }
+        try {
+            if(clip == null) {
+                if(s.voices.size() >= VOICES_PER_SOUND) { dropped.increment(); return; }
+                clip = AudioSystem.getClip();
+                clip.open(s.format, s.pcm, 0, s.pcm.length);
+                s.voices.add(clip);
+            }
+            clip.stop(); clip.setFramePosition(0); clip.start();
+        } catch(Exception e) { dropped.increment(); return; }
+        s.lastStart = trigger;
+        long lat = System.nanoTime()-trigger;
+        played.increment(); latencySum.add(lat); Metrics.AUDIO.record(lat);
+        if(lat > latencyMax) latencyMax = lat;
+    }
+
+    private static Sound sound(String fName) {
+        return sounds.computeIfAbsent(fName, n -> {
+            File f = new File(n);
+            if(!f.exists()) return MISSING;
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(f)) {
+                AudioFormat fmt = in.getFormat();
+                AudioInputStream pcm = fmt.getEncoding() == AudioFormat.Encoding.PCM_SIGNED ? in
+                        : AudioSystem.getAudioInputStream(new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, fmt.getSampleRate(), 16,
+                            fmt.getChannels(), fmt.getChannels()*2, fmt.getSampleRate(), false), in);
+                return new Sound(pcm.getFormat(), pcm.readAllBytes());
+            } catch(Exception e) { return MISSING; }
+        });
+    }
+
+    public static long playedCount() { return played.sum(); }
+    public static long droppedCount() { return dropped.sum(); }
+    public static double meanLatencyMs() { long n = played.sum(); return n==0 ? 0 : latencySum.sum()/1e6/n; }
+    public static double maxLatencyMs() { return latencyMax/1e6; }
+}
@@ -0,0 +1,85 @@
+package snakeladder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cache sprite dadu dan pion: rasterisasi sekali, jalur paint berikutnya cukup drawImage.
+// Dadu dikunci (nilai, warna border, ukuran); pion dikunci (id pemain, ukuran, skala HiDPI).
+// Ukuran berubah (resize/zoom) -> entri ukuran lama dibuang.
+public class SpriteCache {
+    private static final int PAD = 3; // ruang untuk bayangan (+2) dan stroke pion
+    private final Map<Long, ImageIcon> dice = new ConcurrentHashMap<>();
+    private final Map<Long, BufferedImage> pawns = new ConcurrentHashMap<>();
+    private volatile int diceSize = -1, pawnSize = -1;
+    private volatile double pawnScale = 1;
+
+    public ImageIcon dice(int v, int size, Color border) {
+        if(size != diceSize) { dice.clear(); diceSize = size; }
+        long key = ((long)v << 32) | (border.getRGB() & 0xFFFFFFFFL);
+        return dice.computeIfAbsent(key, k -> new ImageIcon(renderDice(v, size, border)));
+    }
+
+    public void drawPawn(Graphics2D g2, int x, int y, int size, int pid) {
+        double scale = g2.getTransform().getScaleX();
+        if(size != pawnSize || scale != pawnScale) { pawns.clear(); pawnSize = size; pawnScale = scale; }
+        BufferedImage img = pawns.computeIfAbsent((long)pid, k -> renderPawn(pid, size, scale));
+        int full = size+2*PAD;
+        g2.drawImage(img, x-PAD, y-PAD, full, full, null);
+    }
+
+    public void clear() { dice.clear(); pawns.clear(); diceSize = pawnSize = -1; }
+
+    static BufferedImage renderPawn(int pid, int size, double scale) {
+        int full = (int)Math.ceil((size+2*PAD)*scale);
+        BufferedImage img = new BufferedImage(full, full, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale); g.translate(PAD, PAD);
+        PawnPainter.drawPawnStatic(g, 0, 0, size, PawnPainter.getPlayerColor(pid), "P"+pid);
+        g.dispose();
+        return img;
+    }
+
+    static BufferedImage renderDice(int v, int s, Color c) {
+        BufferedImage i = new BufferedImage(s,s,2); Graphics2D g = i.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(new Color(0,0,0,50)); g.fillRoundRect(4,4,s-4,s-4,20,20);
+        g.setColor(Color.WHITE); g.fillRoundRect(0,0,s-4,s-4,20,20);
+        g.setColor(c); g.setStroke(new BasicStroke(4)); g.drawRoundRect(0,0,s-4,s-4,20,20);
+        g.setColor(Color.BLACK); int ds=s/5, m=s/2-2, l=s/4-2, r=s*3/4-2;
+        if(v%2!=0) g.fillOval(m-ds/2, m-ds/2, ds, ds);
+        if(v>=2){ g.fillOval(l-ds/2, l-ds/2, ds, ds); g.fillOval(r-ds/2, r-ds/2, ds, ds); }
+        if(v>=4){ g.fillOval(r-ds/2, l-ds/2, ds, ds); g.fillOval(l-ds/2, r-ds/2, ds, ds); }
+        if(v==6){ g.fillOval(l-ds/2, m-ds/2, ds, ds); g.fillOval(r-ds/2, m-ds/2, ds, ds); }
+        g.dispose(); return i;
+    }
+
+    // Mode ukur: java snakeladder.SnakeDijkstraGUI --paint-bench [iterasi]
+    static void bench(String[] args) {
+        AppFonts.load();
+        int n = args.length>1 ? Integer.parseInt(args[1]) : 20000;
+        BufferedImage target = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        SpriteCache cache = new SpriteCache();
+        for(int round=0; round<2; round++) { // ronde pertama = pemanasan JIT
+            long t0 = System.nanoTime();
+            for(int i=0; i<n; i++) g.drawImage(renderDice(i%6+1, 100, Color.LIGHT_GRAY), 0, 0, null);
+            long t1 = System.nanoTime();
+            for(int i=0; i<n; i++) g.drawImage(cache.dice(i%6+1, 100, Color.LIGHT_GRAY).getImage(), 0, 0, null);
+            long t2 = System.nanoTime();
+            for(int i=0; i<n; i++) PawnPainter.drawPawnStatic(g, 10+i%300, 10, 33, PawnPainter.getPlayerColor(i%4+1), "P"+(i%4+1));
+            long t3 = System.nanoTime();
+            for(int i=0; i<n; i++) cache.drawPawn(g, 10+i%300, 10, 33, i%4+1);
+            long t4 = System.nanoTime();
+            if(round == 1) {
+                System.out.printf("dice: raster %.2f us, cached %.2f us%n", (t1-t0)/1e3/n, (t2-t1)/1e3/n);
+                System.out.printf("pawn: raster %.2f us, cached %.2f us%n", (t3-t2)/1e3/n, (t4-t3)/1e3/n);
+            }
+        }
+        g.dispose();
+    }
+}
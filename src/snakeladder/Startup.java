@@ -0,0 +1,95 @@
+package snakeladder;
+
+import snakeladder.engine.*;
+import snakeladder.metrics.*;
+import snakeladder.store.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// STARTUP BERTAHAP: main() langsung memulai font, audio dan skor di thread latar, jadi berjalan bersamaan
+// dengan setLookAndFeel dan pembuatan menu di EDT. Menu dibuat dengan font cadangan; font Geist dipasang
+// lewat callback di EDT begitu selesai dimuat. Kartu GAME dibangun di EDT setelah frame pertama.
+// Aksi yang masuk ke permainan menunggu barrier ready(). Waktu ke frame pertama/siap dilaporkan ke stderr + Metrics.
+public final class Startup {
+    private static final long MAIN_NS = System.nanoTime();
+    private static final ExecutorService loaders = Executors.newFixedThreadPool(3, r -> {
+        Thread t = new Thread(r, "preload"); t.setDaemon(true); return t;
+    });
+    private static CompletableFuture<Void> fonts, audio;
+    private static CompletableFuture<HighScoreManager> scores;
+    private static final CompletableFuture<Void> sprites = new CompletableFuture<>(), gameCard = new CompletableFuture<>();
+    private static boolean firstFrame;
+
+    static synchronized void begin() {
+        if(fonts != null) return;
+        fonts = CompletableFuture.runAsync(AppFonts::load, loaders);
+        audio = CompletableFuture.runAsync(() -> SoundManager.preload(SoundManager.PRELOAD), loaders);
+        scores = CompletableFuture.supplyAsync(HighScoreManager::new, loaders);
+    }
+
+    static CompletableFuture<Void> fonts() { begin(); return fonts; }
+    static CompletableFuture<HighScoreManager> scores() { begin(); return scores; }
+
+    // Dadu yang pasti dipakai (hitam, abu-abu animasi, hijau/merah hasil) dirender sebelum giliran pertama
+    static void preloadSprites(SpriteCache cache) {
+        CompletableFuture.runAsync(() -> {
+            for(Color c : new Color[]{Color.BLACK, Color.LIGHT_GRAY, UITheme.BUTTON_GREEN, UITheme.BUTTON_RED})
+                for(int v=1; v<=6; v++) cache.dice(v, 100, c);
+        }, loaders).whenComplete((v, e) -> sprites.complete(null));
+    }
+
+    static void gameCardReady() { gameCard.complete(null); }
+
+    static CompletableFuture<Void> ready() {
+        begin();
+        return CompletableFuture.allOf(fonts, audio, scores, sprites, gameCard);
+    }
+
+    // Dipanggil dari paint pertama menu (EDT); sekali saja
+    static boolean firstFrame() {
+        if(firstFrame) return false;
+        firstFrame = true;
+        report("first frame", Metrics.histogram("startup.first-frame"));
+        ready().whenComplete((v, e) -> {
+            report("ready", Metrics.histogram("startup.ready"));
+            if(Boolean.getBoolean("snake.exitAfterStartup")) System.exit(0);
+        });
+        return true;
+    }
+
+    private static void report(String what, LatencyHistogram h) {
+        long sinceMain = System.nanoTime()-MAIN_NS;
+        h.record(sinceMain);
+        System.err.printf("startup: %s %d ms after main (JVM uptime %d ms)%n", what, sinceMain/1_000_000,
+                java.lang.management.ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    // Latihan headless untuk arsip AppCDS (profil Maven cds): lewati jalur kelas startup tanpa membuka jendela
+    static void train() {
+        begin();
+        AppFonts.load();
+        SpriteCache cache = new SpriteCache();
+        preloadSprites(cache);
+        SeededGame sg = new SeededGame(SeededGame.newSeed(), BoardLayout.DEFAULT_SIZE);
+        BufferedImage img = new BufferedImage(1280, 900, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        AnimatedBackgroundPanel bg = new AnimatedBackgroundPanel(new Animator()); bg.setSize(1280, 900); bg.paint(g);
+        BoardCanvas canvas = new BoardCanvas(cache); canvas.setSize(800, 800);
+        canvas.layoutChanged(sg.board, sg.rules.shortcuts()); canvas.setPawns(new int[]{1, 1}); canvas.paint(g);
+        JPanel p = new JPanel(new BorderLayout());
+        p.add(new JLabel("Snake"), BorderLayout.NORTH); p.add(new JButton("Roll"), BorderLayout.SOUTH);
+        p.add(new JScrollPane(new JList<>(new String[]{"a", "b"})), BorderLayout.CENTER); p.add(new JTextField(), BorderLayout.EAST);
+        p.setSize(320, 800); p.doLayout(); p.paint(g);
+        g.dispose();
+        new BoardGraph(sg.rules, BoardGraph.Metric.ROLLS);
+        new GameState(sg.rules, 2).playToEnd(sg.dice);
+        gameCardReady();
+        ready().join();
+        System.err.printf("cds training run done in %d ms%n", (System.nanoTime()-MAIN_NS)/1_000_000);
+    }
+}
@@ -0,0 +1,57 @@
+package snakeladder;
+
+import snakeladder.metrics.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+// Notifikasi non-blocking di glass pane: muncul, bertahan sebentar lalu memudar. Klik tembus ke bawah,
+// jadi giliran (termasuk bot/turnamen) tidak pernah menunggu tombol OK.
+class ToastLayer extends JComponent {
+    private static final int SHOW_MS = 1600, FADE_MS = 400, MAX_TOASTS = 4, W = 320, H = 64;
+    private final Animator animator;
+    private final List<Toast> toasts = new ArrayList<>();
+
+    private static class Toast {
+        final String title, msg; final boolean warn; float alpha = 1;
+        Toast(String title, String msg, boolean warn) { this.title = title; this.msg = msg; this.warn = warn; }
+    }
+
+    ToastLayer(Animator animator) { this.animator = animator; setOpaque(false); }
+
+    public void show(String title, String msg, boolean warn) {
+        Toast t = new Toast(title, msg, warn);
+        toasts.add(t);
+        if(toasts.size() > MAX_TOASTS) toasts.remove(0);
+        setVisible(true); repaint();
+        double total = SHOW_MS+FADE_MS;
+        animator.play(this, total, p -> t.alpha = (float)Math.max(0, Math.min(1, (1-p)*total/FADE_MS)), () -> {
+            toasts.remove(t);
+            if(toasts.isEmpty()) setVisible(false);
+            repaint();
+        });
+    }
+
+    @Override public boolean contains(int x, int y) { return false; }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long t0 = System.nanoTime();
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int x = (getWidth()-W)/2, y = 20;
+        for(Toast t : toasts) {
+            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, t.alpha));
+            Color c = t.warn ? UITheme.BUTTON_RED : UITheme.ACCENT;
+            g2.setColor(UITheme.BG_DARK); g2.fillRoundRect(x, y, W, H, 16, 16);
+            g2.setColor(c); g2.setStroke(new BasicStroke(2f)); g2.drawRoundRect(x, y, W, H, 16, 16);
+            g2.setFont(AppFonts.BOLD.deriveFont(16f)); g2.drawString(t.title, x+16, y+26);
+            g2.setFont(AppFonts.REGULAR.deriveFont(13f)); g2.setColor(UITheme.TEXT_MAIN); g2.drawString(t.msg, x+16, y+48);
+            y += H+8;
+        }
+        g2.dispose();
+        Metrics.PAINT_TOASTS.record(System.nanoTime()-t0);
+    }
+}
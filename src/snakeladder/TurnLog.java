@@ -0,0 +1,125 @@
+package snakeladder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+
+// LOG GILIRAN: ring buffer primitif, baris diformat hanya saat JList meminta (yang terlihat saja).
+// Riwayat lengkap ditulis ke file teks untuk export & pencarian.
+public class TurnLog extends AbstractListModel<String> {
+    public static final int CAPACITY = 2048;
+    private static final byte LINK = 1, DOUBLE = 2, WON = 4, HEADER = 8;
+    private final int[] pid = new int[CAPACITY], from = new int[CAPACITY], stop = new int[CAPACITY], link = new int[CAPACITY], pts = new int[CAPACITY];
+    private final long[] seq = new long[CAPACITY]; // nomor giliran, atau seed untuk baris header
+    private final byte[] flags = new byte[CAPACITY];
+    private int head, size;
+    private long turns, seed;
+    private boolean restoring;
+    private String[] names = new String[0];
+    private String header = "";
+    private final Path spillFile;
+    private Writer spill;
+    private boolean spillDisabled;
+
+    public TurnLog(Path spillFile) { this.spillFile = spillFile; }
+
+    public void startGame(String title, long seed, String[] names) {
+        int n = size; head = 0; size = 0; turns = 0;
+        if(n > 0) fireIntervalRemoved(this, 0, n-1);
+        this.names = names.clone(); this.header = title; this.seed = seed;
+        int i = slot(); flags[i] = HEADER; seq[i] = seed;
+        spill(format(i));
+    }
+
+    // TIMELINE: ring diisi ulang lewat add() di antara beginRestore/endRestore. Baris itu sudah ada di file spill
+    // jadi tidak ditulis lagi, dan JList hanya menerima satu event hapus + satu event tambah
+    public void beginRestore(long firstTurn) {
+        int n = size; head = 0; size = 0; restoring = true;
+        if(n > 0) fireIntervalRemoved(this, 0, n-1);
+        if(firstTurn == 1) { int i = slot(); flags[i] = HEADER; seq[i] = seed; }
+        turns = firstTurn-1;
+    }
+
+    public void endRestore() {
+        restoring = false;
+        if(size > 0) fireIntervalAdded(this, 0, size-1);
+    }
+
+    // Catatan hanya untuk file (mis. cabang baru di timeline); ring di layar tidak berubah
+    public void note(String line) { spill(line); }
+
+    public void add(int p, int f, int s, int l, int points, boolean dbl, boolean won) {
+        int i = slot();
+        pid[i] = p; from[i] = f; stop[i] = s; link[i] = l; pts[i] = points; seq[i] = ++turns;
+        flags[i] = (byte)((l != -1 ? LINK : 0) | (dbl ? DOUBLE : 0) | (won ? WON : 0));
+        if(restoring) return;
+        spill(format(i));
+        if(won) flush();
+    }
+
+    // Mengambil slot berikutnya; bila penuh, baris tertua digeser keluar
+    private int slot() {
+        if(size == CAPACITY) { head = (head+1) % CAPACITY; size--; if(!restoring) fireIntervalRemoved(this, 0, 0); }
+        int i = (head + size++) % CAPACITY;
+        if(!restoring) fireIntervalAdded(this, size-1, size-1);
+        return i;
+    }
+
+    private String format(int i) {
+        if(flags[i] == HEADER) return header + " (seed " + Long.toHexString(seq[i]) + ")";
+        StringBuilder sb = new StringBuilder(56).append('#').append(seq[i]).append(' ').append(names[pid[i]-1]).append(": ").append(from[i]).append(" -> ").append(stop[i]);
+        if((flags[i] & LINK) != 0) sb.append(" (LINK -> ").append(link[i]).append(')');
+        sb.append(" [+").append(pts[i]).append(" pts]");
+        if((flags[i] & DOUBLE) != 0) sb.append(" x2");
+        if((flags[i] & WON) != 0) sb.append(" FINISH");
+        return sb.toString();
+    }
+
+    @Override public int getSize() { return size; }
+    @Override public String getElementAt(int index) { return format((head + index) % CAPACITY); }
+
+    //SPILL: GAGAL TULIS HANYA MEMATIKAN FILE LOG, BUKAN PERMAINAN (tidak dicoba lagi sampai aplikasi dibuka ulang)
+    private void spill(String line) {
+        if(spillDisabled) return;
+        try {
+            if(spill == null) spill = Files.newBufferedWriter(spillFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spill.write(line); spill.write('\n');
+        } catch(IOException e) { disableSpill(e); }
+    }
+
+    private void disableSpill(IOException e) {
+        System.err.println("Turn log spill disabled: " + e);
+        spillDisabled = true;
+        if(spill != null) { try { spill.close(); } catch(IOException ignored) {} spill = null; }
+    }
+
+    boolean spillEnabled() { return !spillDisabled; }
+
+    public void flush() {
+        try { if(spill != null) spill.flush(); } catch(IOException e) { disableSpill(e); }
+    }
+
+    public void exportTo(Path target) throws IOException {
+        flush();
+        Files.copy(spillFile, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Pencarian di seluruh riwayat (file), bukan hanya yang masih ada di ring buffer
+    public List<String> search(String needle, int limit) throws IOException {
+        flush();
+        List<String> hits = new ArrayList<>();
+        if(!Files.exists(spillFile)) return hits;
+        String q = needle.toLowerCase(Locale.ROOT);
+        try (BufferedReader r = Files.newBufferedReader(spillFile)) {
+            String line; long no = 0;
+            while((line = r.readLine()) != null && hits.size() < limit) {
+                no++;
+                if(line.toLowerCase(Locale.ROOT).contains(q)) hits.add(no + ": " + line);
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,26 @@
+package snakeladder;
+
+import javax.swing.*;
+import java.awt.*;
+
+public class UITheme {
+    public static final Color BG_DARK = Color.decode("#1E1E2E");
+    public static final Color BG_PANEL = Color.decode("#252538");
+    public static final Color TEXT_MAIN = Color.decode("#CDD6F4");
+    public static final Color TEXT_SUB = Color.decode("#A6ADC8");
+    public static final Color ACCENT = Color.decode("#FAB387");
+    public static final Color BUTTON_GREEN = Color.decode("#A6E3A1");
+    public static final Color BUTTON_RED = Color.decode("#F38BA8");
+    public static final Color BUTTON_BLUE = Color.decode("#89B4FA");
+
+    public static void applyTheme() {
+        UIManager.put("Panel.background", BG_PANEL);
+        UIManager.put("Label.foreground", TEXT_MAIN);
+        UIManager.put("OptionPane.background", BG_PANEL);
+        UIManager.put("OptionPane.messageForeground", TEXT_MAIN);
+        UIManager.put("TextField.background", BG_DARK);
+        UIManager.put("TextField.foreground", Color.WHITE);
+        UIManager.put("TextField.caretForeground", Color.WHITE);
+        UIManager.put("Button.background", Color.WHITE);
+    }
+}
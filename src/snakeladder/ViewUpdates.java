@@ -0,0 +1,83 @@
+package snakeladder;
+
+import snakeladder.engine.*;
+
+import javax.swing.*;
+
+// Menggabungkan event GameState jadi paling banyak satu update view per frame. Per pemain hanya posisi/skor
+// terakhir yang dikirim, dan hanya bila berbeda dari yang sedang tampil. Event boleh datang dari thread mana saja;
+// yang tertahan baru terlihat setelah publish() (GUI memanggilnya di akhir animasi giliran).
+final class ViewUpdates implements GameState.Listener {
+    interface View {
+        void pawn(int pid, int from, int to);
+        void score(int pid, int score);
+        void turn(int pid);
+        void frameDone();
+    }
+
+    private static final int MAX_PLAYERS = 4, TURN_BIT = 1 << 2*MAX_PLAYERS;
+    private final View view;
+    private final int[] pawn = new int[MAX_PLAYERS], score = new int[MAX_PLAYERS], shownPawn = new int[MAX_PLAYERS], shownScore = new int[MAX_PLAYERS];
+    private int turn, shownTurn, dirty; // bit pid-1 = pion, bit MAX_PLAYERS+pid-1 = skor, TURN_BIT = giliran
+    private boolean published, scheduled;
+    private long lastFlush, flushes, events;
+    private final javax.swing.Timer timer = new javax.swing.Timer(0, e -> flush());
+
+    ViewUpdates(View view) { this.view = view; timer.setRepeats(false); }
+
+    // Permainan baru: view sudah diisi penuh oleh pemanggil, mulai lagi dari state ini
+    public synchronized void reset(GameState g) {
+        dirty = 0; published = false;
+        for(int i=0; i<MAX_PLAYERS; i++) {
+            boolean in = i < g.playerCount;
+            pawn[i] = shownPawn[i] = in ? g.position(i+1) : 0;
+            score[i] = shownScore[i] = in ? g.score(i+1) : 0;
+        }
+        turn = shownTurn = g.currentPlayer();
+    }
+
+    @Override public synchronized void pawnMoved(int pid, int from, int to) { pawn[pid-1] = to; mark(pid-1, to != shownPawn[pid-1]); }
+    @Override public synchronized void scoreChanged(int pid, int s) { score[pid-1] = s; mark(MAX_PLAYERS+pid-1, s != shownScore[pid-1]); }
+    @Override public synchronized void turnChanged(int pid) { turn = pid; events++; dirty = pid != shownTurn ? dirty | TURN_BIT : dirty & ~TURN_BIT; }
+
+    private void mark(int bit, boolean changed) { events++; dirty = changed ? dirty | 1 << bit : dirty & ~(1 << bit); }
+
+    public synchronized long flushCount() { return flushes; }
+    public synchronized long eventCount() { return events; }
+
+    // Jadwalkan flush di batas frame berikutnya; publish() berulang sebelum itu digabung
+    public void publish() {
+        synchronized(this) {
+            published = true;
+            if(scheduled) return;
+            scheduled = true;
+        }
+        if(SwingUtilities.isEventDispatchThread()) arm(); else SwingUtilities.invokeLater(this::arm);
+    }
+
+    private void arm() {
+        timer.setInitialDelay((int)Math.max(0, Animator.FRAME_MS - (System.nanoTime()-lastFlush)/1_000_000));
+        timer.restart();
+    }
+
+    // Terapkan sekarang (mis. sebelum dialog game over); hanya di EDT
+    public void flush() {
+        int d, t; int[] p = new int[MAX_PLAYERS], from = new int[MAX_PLAYERS], sc = new int[MAX_PLAYERS];
+        synchronized(this) {
+            timer.stop(); scheduled = false;
+            if(!published) return;
+            published = false; d = dirty; dirty = 0; t = turn; flushes++;
+            for(int i=0; i<MAX_PLAYERS; i++) {
+                from[i] = shownPawn[i]; p[i] = shownPawn[i] = pawn[i]; sc[i] = shownScore[i] = score[i];
+            }
+            shownTurn = turn;
+        }
+        lastFlush = System.nanoTime();
+        for(int i=0; i<MAX_PLAYERS; i++) {
+            if((d & 1 << i) != 0) view.pawn(i+1, from[i], p[i]);
+            if((d & 1 << MAX_PLAYERS+i) != 0) view.score(i+1, sc[i]);
+        }
+        if((d & TURN_BIT) != 0) view.turn(t);
+        view.frameDone();
+    }
+}
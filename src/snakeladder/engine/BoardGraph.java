@@ -0,0 +1,178 @@
+package snakeladder.engine;
+
+import java.util.*;
+
+// Node = kotak, edge = hasil satu lemparan (12 kemungkinan per kotak, shortcut sudah ikut dihitung oleh resolve).
+// ROLLS: setiap lemparan berbobot 1. TURNS: mendarat di kotak double berbobot 0 karena giliran belum habis.
+public class BoardGraph {
+    public enum Metric { ROLLS, TURNS }
+    public static final int ALL_PAIRS_LIMIT = 1024;
+    static final int INF = Integer.MAX_VALUE/4, W = GameRules.OUTCOMES;
+    private final GameRules rules;    // salinan sendiri; shortcut diubah di tempat
+    private final Metric metric;
+    public final int n;
+    private final int[] adj;          // adj[s*W+i] = kotak tujuan lemparan ke-i dari s
+    private final int[] toGoal, next; // jarak minimum ke goal + langkah berikutnya di jalur terpendek
+    private final int[] scHead, scNext; // shortcut per kotak tujuan (linked list lewat kotak asal)
+    private int[] ap;                 // all-pairs (s*(n+1)+t), dibangun saat distance() pertama; tetap null kalau papan > ALL_PAIRS_LIMIT
+    private boolean[] redo;
+    private final IntHeap heap;
+    // Scratch untuk changeShortcut: paling banyak 6 baris x 6 lemparan maju yang berubah
+    private final int[] cu = new int[GameRules.DICE_SIDES*GameRules.DICE_SIDES], cOld = new int[cu.length], cNew = new int[cu.length];
+    private final int[] dirtyList;
+    private final boolean[] dirty;
+
+    public BoardGraph(GameRules rules, Metric metric) {
+        this.rules = new GameRules(rules); this.metric = metric; n = rules.goal;
+        adj = new int[(n+1)*W];
+        toGoal = new int[n+1]; next = new int[n+1];
+        scHead = new int[n+1]; scNext = new int[n+1];
+        heap = new IntHeap(n+1);
+        dirtyList = new int[n+1]; dirty = new boolean[n+1];
+        for(Map.Entry<Integer, Integer> e : rules.shortcuts().entrySet()) link(e.getKey(), e.getValue());
+        for(int s=1; s<n; s++) for(int i=0; i<W; i++) adj[s*W+i] = land(s, i);
+        Arrays.fill(toGoal, INF); toGoal[n] = 0; next[n] = n;
+        heap.push(n, 0);
+        propagateToGoal();
+    }
+
+    public GameRules rules() { return rules; }
+    public int rollsToGoal(int s) { return toGoal[s]; }
+    public int nextOnShortestPath(int s) { return next[s]; }
+    public int difficulty() { return toGoal[1]; }
+    public boolean hasAllPairs() { return n <= ALL_PAIRS_LIMIT; }
+
+    public int distance(int from, int to) {
+        if(ap == null && hasAllPairs()) buildAllPairs();
+        if(ap != null) return ap[from*(n+1)+to];
+        int[] d = new int[n+1];
+        dijkstraRow(from, d, 0, null);
+        return d[to];
+    }
+
+    // Urutan kotak pendaratan (tanpa kotak awal) untuk jalur terpendek from -> to, kosong kalau tidak terjangkau
+    public int[] path(int from, int to) {
+        int[] d = new int[n+1], parent = new int[n+1];
+        dijkstraRow(from, d, 0, parent);
+        if(d[to] >= INF) return new int[0];
+        int len = 0;
+        for(int v=to; v!=from; v=parent[v]) len++;
+        int[] p = new int[len];
+        for(int v=to, i=len-1; v!=from; v=parent[v]) p[i--] = v;
+        return p;
+    }
+
+    public void addShortcut(int from, int to) { changeShortcut(from, to); }
+    public void removeShortcut(int from) { changeShortcut(from, -1); }
+
+    // Inkremental: hanya lemparan maju dari kotak (from-6..from-1) yang bisa berubah; tabel outcome ditambal di tempat.
+    private void changeShortcut(int from, int to) {
+        int old = rules.shortcutFrom(from);
+        if(old == Math.max(0, to)) return;
+        if(old != 0) unlink(from, old);
+        if(to >= 0) link(from, to);
+        rules.patchShortcut(from, to);
+
+        int lo = Math.max(1, from-GameRules.DICE_SIDES), hi = Math.min(n-1, from-1), cnt = 0, dn = 0;
+        for(int s=lo; s<=hi; s++) {
+            boolean changed = false;
+            for(int i=0; i<GameRules.DICE_SIDES; i++) {
+                int v = land(s, i), o = adj[s*W+i];
+                if(v != o) { cu[cnt] = s; cOld[cnt] = o; cNew[cnt++] = v; adj[s*W+i] = v; changed = true; }
+            }
+            if(changed && !dirty[s]) { dirty[s] = true; dirtyList[dn++] = s; }
+        }
+        if(dn > 0) { rerouteToGoal(dn); propagateToGoal(); }
+        if(ap != null && cnt > 0) updateAllPairs(cnt);
+    }
+
+    private void link(int from, int to) { scNext[from] = scHead[to]; scHead[to] = from; }
+    private void unlink(int from, int to) {
+        if(scHead[to] == from) { scHead[to] = scNext[from]; return; }
+        for(int k=scHead[to]; k!=0; k=scNext[k]) if(scNext[k] == from) { scNext[k] = scNext[from]; return; }
+    }
+
+    private int land(int s, int i) { return rules.landing(s, i); }
+
+    private int weight(int v) { return metric == Metric.TURNS && v != n && rules.isDoubleTurn(v) ? 0 : 1; }
+
+    // Kotak yang jalur terpendeknya lewat baris yang berubah (dirtyList[0..dn)) harus dihitung ulang;
+    // sisanya tetap valid sebagai batas atas. Hanya daftar dirty yang disentuh, bukan seluruh papan.
+    private void rerouteToGoal(int dn) {
+        for(int q=0; q<dn; q++) {
+            int x = dirtyList[q];
+            for(int p=Math.max(1, x-GameRules.DICE_SIDES); p<=Math.min(n-1, x+GameRules.DICE_SIDES); p++)
+                if(!dirty[p] && next[p] == x) { dirty[p] = true; dirtyList[dn++] = p; }
+            for(int k=scHead[x]; k!=0; k=scNext[k])
+                for(int p=Math.max(1, k-GameRules.DICE_SIDES); p<k; p++)
+                    if(!dirty[p] && next[p] == x) { dirty[p] = true; dirtyList[dn++] = p; }
+        }
+        for(int q=0; q<dn; q++) toGoal[dirtyList[q]] = INF;
+        for(int q=0; q<dn; q++) {
+            int x = dirtyList[q];
+            dirty[x] = false;
+            for(int i=0; i<W; i++) {
+                int v = adj[x*W+i];
+                if(toGoal[v] < INF && toGoal[v]+weight(v) < toGoal[x]) { toGoal[x] = toGoal[v]+weight(v); next[x] = v; }
+            }
+            if(toGoal[x] < INF) heap.push(x, toGoal[x]);
+        }
+    }
+
+    // Dijkstra mundur dari isi heap saat ini: relaksasi ke semua pendahulu (±6 kotak + asal shortcut).
+    private void propagateToGoal() {
+        while(!heap.isEmpty()) {
+            int x = heap.pop(), d = toGoal[x]+weight(x);
+            for(int p=Math.max(1, x-GameRules.DICE_SIDES); p<=Math.min(n-1, x+GameRules.DICE_SIDES); p++) relaxPred(p, x, d);
+            for(int k=scHead[x]; k!=0; k=scNext[k])
+                for(int p=Math.max(1, k-GameRules.DICE_SIDES); p<k; p++) relaxPred(p, x, d);
+        }
+    }
+
+    private void relaxPred(int p, int x, int d) {
+        if(d >= toGoal[p]) return;
+        for(int i=0; i<W; i++) if(adj[p*W+i] == x) { toGoal[p] = d; next[p] = x; heap.push(p, d); return; }
+    }
+
+    private void dijkstraRow(int src, int[] dist, int off, int[] parent) {
+        Arrays.fill(dist, off+1, off+n+1, INF);
+        dist[off+src] = 0;
+        heap.push(src, 0);
+        while(!heap.isEmpty()) {
+            int u = heap.pop();
+            if(u == n) continue;
+            int du = dist[off+u];
+            for(int i=0; i<W; i++) {
+                int v = adj[u*W+i], dv = du+weight(v);
+                if(dv < dist[off+v]) { dist[off+v] = dv; if(parent != null) parent[v] = u; heap.push(v, dv); }
+            }
+        }
+    }
+
+    private void buildAllPairs() {
+        ap = new int[(n+1)*(n+1)]; redo = new boolean[n+1];
+        for(int s=1; s<=n; s++) dijkstraRow(s, ap, s*(n+1), null);
+    }
+
+    // Baris yang mungkin memakai edge lama dihitung ulang; baris lain cukup direlaksasi lewat edge baru.
+    private void updateAllPairs(int cnt) {
+        int m = n+1;
+        for(int s=1; s<=n; s++) {
+            int r = s*m;
+            redo[s] = false;
+            for(int e=0; e<cnt && !redo[s]; e++)
+                if(ap[r+cu[e]] < INF && ap[r+cu[e]]+weight(cOld[e]) == ap[r+cOld[e]]) redo[s] = true;
+        }
+        for(int s=1; s<=n; s++) if(redo[s]) dijkstraRow(s, ap, s*m, null);
+        for(int e=0; e<cnt; e++) {
+            int u = cu[e], v = cNew[e], w = weight(v), rv = v*m;
+            for(int s=1; s<=n; s++) {
+                if(redo[s]) continue;
+                int r = s*m, du = ap[r+u];
+                if(du >= INF) continue;
+                int base = du+w;
+                for(int t=1; t<=n; t++) if(ap[rv+t] < INF && base+ap[rv+t] < ap[r+t]) ap[r+t] = base+ap[rv+t];
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package snakeladder.engine;
+
+import java.util.random.RandomGenerator;
+
+// Papan sebagai array primitif padat (index = node id), tanpa satu objek per kotak.
+// Penomoran zig-zag: id 1 di kiri bawah, baris berikutnya berbalik arah.
+public class BoardLayout {
+    public static final int MAX_SIZE = 1000, DEFAULT_SIZE = 8;
+    public final int size, squares;
+    private final int[] rowOf, colOf, idAt; // idAt[row*size+col]
+    private final int[] points;
+
+    public BoardLayout(int size, RandomGenerator rng) {
+        if(size<2 || size>MAX_SIZE) throw new IllegalArgumentException("Board size must be 2.." + MAX_SIZE + ": " + size);
+        this.size = size; squares = size*size;
+        rowOf = new int[squares+1]; colOf = new int[squares+1]; idAt = new int[squares];
+        for(int id=1; id<=squares; id++) {
+            int k = (id-1)/size, c = (id-1)%size;
+            rowOf[id] = size-1-k; colOf[id] = k%2==0 ? c : size-1-c;
+            idAt[rowOf[id]*size+colOf[id]] = id;
+        }
+        points = GameRules.randomPoints(rng, squares);
+    }
+
+    public int rowOf(int id) { return rowOf[id]; }
+    public int colOf(int id) { return colOf[id]; }
+    public int idAt(int row, int col) { return idAt[row*size+col]; }
+    public int pointOf(int id) { return points[id]; }
+    int[] points() { return points; }
+
+    // Jumlah shortcut ikut skala papan: 5 untuk 8x8
+    public static int shortcutCount(int squares) { return Math.max(5, (int)((long)squares*5/64)); }
+}
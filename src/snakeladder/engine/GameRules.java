@@ -0,0 +1,107 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+public class GameRules {
+    public static final double GREEN_CHANCE = 0.7; // 70% Green
+    public static final int DICE_SIDES = 6, OUTCOMES = 2*DICE_SIDES;
+    public final int goal;
+    private final int[] points; // index = node id
+    private final Map<Integer, Integer> shortcuts;
+    // Tabel hasil kompilasi layout (index = node id)
+    private final boolean[] prime;
+    private final int[] shortcutTo;  // 0 = tidak ada shortcut
+    private final int[] outcome;     // [s*OUTCOMES + i]: (tujuan << 4) | (link << 3) | langkah; i<6 maju, i>=6 mundur
+
+    public GameRules(int goal, int[] points, Map<Integer, Integer> shortcuts) {
+        this.goal = goal; this.points = points; this.shortcuts = new HashMap<>(shortcuts);
+        prime = sieve(goal);
+        shortcutTo = new int[goal+1];
+        for(Map.Entry<Integer, Integer> e : shortcuts.entrySet()) shortcutTo[e.getKey()] = e.getValue();
+        outcome = new int[(goal+1)*OUTCOMES];
+        for(int s=1; s<goal; s++) for(int i=0; i<OUTCOMES; i++) outcome[s*OUTCOMES+i] = walk(s, i<DICE_SIDES, i%DICE_SIDES+1);
+    }
+
+    // Salinan dengan tabel sendiri, untuk pemilik yang mengubah shortcut di tempat (BoardGraph)
+    GameRules(GameRules o) {
+        goal = o.goal; points = o.points; shortcuts = new HashMap<>(o.shortcuts);
+        prime = o.prime; shortcutTo = o.shortcutTo.clone(); outcome = o.outcome.clone();
+    }
+
+    public int pointOf(int id) { return id>0 && id<points.length ? points[id] : 0; }
+    public Map<Integer, Integer> shortcuts() { return Collections.unmodifiableMap(shortcuts); }
+    public GameRules withShortcuts(Map<Integer, Integer> sc) { return new GameRules(goal, points, sc); }
+    public boolean isDoubleTurn(int pos) { return pos%5==0 && pos!=1; }
+
+    // Kunci cache untuk hasil yang hanya bergantung pada layout (bukan poin)
+    public String layoutKey() {
+        StringBuilder sb = new StringBuilder().append(goal);
+        for(Map.Entry<Integer, Integer> e : new TreeMap<>(shortcuts).entrySet()) sb.append(',').append(e.getKey()).append('>').append(e.getValue());
+        return sb.toString();
+    }
+
+    public static int[] randomPoints(RandomGenerator rng, int goal) {
+        int[] pts = new int[goal+1];
+        for(int i=1; i<=goal; i++) pts[i] = rng.nextInt(3)+1; // 1..3 poin per kotak
+        return pts;
+    }
+
+    public static boolean isPrime(int n) { if(n<=1)return false; for(int i=2; i*i<=n; i++) if(n%i==0) return false; return true; }
+    public boolean isPrimeSquare(int id) { return prime[id]; }
+    public int shortcutFrom(int id) { return shortcutTo[id]; }
+
+    private static boolean[] sieve(int n) {
+        boolean[] p = new boolean[n+1];
+        if(n >= 2) Arrays.fill(p, 2, n+1, true);
+        for(int i=2; (long)i*i<=n; i++) if(p[i]) for(int j=i*i; j<=n; j+=i) p[j] = false;
+        return p;
+    }
+
+    // BOARDS (LOGIKA PERGERAKAN ANTAR NODE): jalan |step| kotak, berhenti di goal, tidak turun di bawah 1.
+    // Shortcut hanya aktif dari kotak prima dan hanya bila dilewati (val > jarak), bukan saat mendarat.
+    // Hanya dipakai saat membangun tabel outcome.
+    private int walk(int cur, boolean green, int val) {
+        boolean gate = green && prime[cur];
+        int c = cur, d = green ? 1 : -1, steps = 0, link = 0;
+        for(int i=0; i<val; i++) {
+            if(c == goal) break;
+            if(c == 1 && d == -1) {} else c += d;
+            steps++;
+            if(gate && val > (c-cur) && shortcutTo[c] != 0) { link = 1; c = shortcutTo[c]; break; }
+        }
+        return (c << 4) | (link << 3) | steps;
+    }
+
+    // Ganti/hapus (to < 0) shortcut di tempat: hanya baris maju dari from-6..from-1 yang bisa melewati from.
+    void patchShortcut(int from, int to) {
+        if(to < 0) shortcuts.remove(from); else shortcuts.put(from, to);
+        shortcutTo[from] = Math.max(0, to);
+        for(int s=Math.max(1, from-DICE_SIDES); s<from && s<goal; s++)
+            for(int v=1; v<=DICE_SIDES; v++) outcome[s*OUTCOMES+v-1] = walk(s, true, v);
+    }
+
+    public static int outcomeIndex(boolean green, int val) { return green ? val-1 : DICE_SIDES+val-1; }
+
+    // Kotak akhir (sudah termasuk shortcut) untuk hasil lemparan ke-i dari kotak s
+    public int landing(int s, int i) { return outcome[s*OUTCOMES+i] >>> 4; }
+
+    public void resolve(int cur, boolean green, int val, Turn out) {
+        int o = outcome[cur*OUTCOMES+outcomeIndex(green, val)], steps = o & 7, to = o >>> 4;
+        int stop = green ? cur+steps : Math.max(1, cur-steps);
+        out.from = cur; out.green = green; out.val = val; out.steps = steps;
+        out.stop = stop; out.to = to; out.link = (o & 8) != 0 ? to : -1;
+    }
+
+    public static Map<Integer, Integer> genShortcuts(RandomGenerator rng, int goal, int count) {
+        Map<Integer, Integer> sc = new HashMap<>();
+        boolean[] isTarget = new boolean[goal+1]; // pengganti containsValue yang O(n)
+        while(sc.size()<count) {
+            int a = rng.nextInt(goal-2)+2, b = rng.nextInt(goal-2)+2;
+            if(a!=b && !sc.containsKey(Math.min(a,b)) && !isTarget[Math.min(a,b)]) {
+                sc.put(Math.min(a,b), Math.max(a,b)); isTarget[Math.max(a,b)] = true;
+            }
+        }
+        return sc;
+    }
+}
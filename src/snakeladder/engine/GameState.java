@@ -0,0 +1,83 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+public class GameState {
+    public final GameRules rules;
+    public final int playerCount;
+    final int[] pos, score;
+    final int[] queue; //GILIRAN: QUEUE (ring buffer, id pemain 1..n)
+    int head, size, winner;
+    long turns;
+    private final Turn turn = new Turn();
+    private Listener listener;
+
+    // Event perubahan state, dipanggil di thread yang menjalankan apply() setelah state konsisten
+    public interface Listener {
+        void pawnMoved(int pid, int from, int to);
+        void scoreChanged(int pid, int score);
+        void turnChanged(int pid);
+    }
+
+    public void setListener(Listener l) { listener = l; }
+
+    public GameState(GameRules rules, int players) {
+        this.rules = rules; this.playerCount = players;
+        pos = new int[players]; score = new int[players]; queue = new int[players];
+        Arrays.fill(pos, 1);
+        for(int i=0; i<players; i++) queue[i] = i+1;
+        size = players;
+    }
+
+    public int position(int pid) { return pos[pid-1]; }
+    public int score(int pid) { return score[pid-1]; }
+    public int[] scores() { return score.clone(); }
+    public int currentPlayer() { return size==0 ? 0 : queue[head]; }
+    // Antrian giliran mulai dari pemain yang sedang jalan; mengembalikan jumlah pemain di antrian
+    public int turnOrder(int[] out) { for(int i=0; i<size; i++) out[i] = queue[(head+i)%queue.length]; return size; }
+    public int winner() { return winner; }
+    public boolean isOver() { return winner != 0; }
+    public long turnsPlayed() { return turns; }
+
+    public Turn step(RandomGenerator rng) {
+        //PROBABILISTIK DADU
+        boolean green = rng.nextDouble() < GameRules.GREEN_CHANCE;
+        int val = rng.nextInt(GameRules.DICE_SIDES)+1;
+        return apply(green, val);
+    }
+
+    public Turn apply(boolean green, int val) {
+        if(winner != 0) throw new IllegalStateException("Game is over");
+        int pid = queue[head]; head = (head+1)%queue.length; size--; //GILIRAN: AMBIL PEMAIN PALING DEPAN
+        Turn t = turn; t.pid = pid;
+        rules.resolve(pos[pid-1], green, val, t);
+        pos[pid-1] = t.to;
+        t.points = rules.pointOf(t.to);
+        score[pid-1] += t.points;
+        t.won = t.to == rules.goal;
+        t.doubleTurn = !t.won && rules.isDoubleTurn(t.to);
+        turns++;
+        if(t.won) winner = pid;
+        else { //GILIRAN: PENGEMBALIAN GILIRAN (DOUBLE -> DEPAN, BIASA -> BELAKANG)
+            if(t.doubleTurn) { head = (head-1+queue.length)%queue.length; queue[head] = pid; }
+            else queue[(head+size)%queue.length] = pid;
+            size++;
+        }
+        if(listener != null) {
+            if(t.to != t.from) listener.pawnMoved(pid, t.from, t.to);
+            if(t.points != 0) listener.scoreChanged(pid, score[pid-1]);
+            if(!t.won) listener.turnChanged(queue[head]);
+        }
+        return t;
+    }
+
+    public int playToEnd(RandomGenerator rng) {
+        while(winner == 0) step(rng);
+        return winner;
+    }
+
+    // SIMPAN/MUAT: salin ke/dari slot PackedGames (format yang sama dengan file simpanan)
+    public void store(PackedGames pg, int slot) { pg.store(slot, this); }
+    public static GameState load(PackedGames pg, int slot, GameRules rules) { return pg.load(slot, rules); }
+}
@@ -0,0 +1,47 @@
+package snakeladder.engine;
+
+// Binary min-heap di atas array primitif dengan decrease-key (posisi disimpan per node).
+final class IntHeap {
+    private final int[] heap, key, where; // where[v] = index+1 di heap, 0 kalau tidak ada
+    private int size;
+    IntHeap(int cap) { heap = new int[cap]; key = new int[cap]; where = new int[cap]; }
+
+    boolean isEmpty() { return size == 0; }
+
+    void push(int v, int k) {
+        int i;
+        if(where[v] == 0) { i = size++; heap[i] = v; where[v] = i+1; }
+        else { i = where[v]-1; if(k >= key[v]) return; }
+        key[v] = k;
+        siftUp(i);
+    }
+
+    int pop() {
+        int top = heap[0];
+        where[top] = 0;
+        if(--size > 0) { heap[0] = heap[size]; where[heap[0]] = 1; siftDown(0); }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while(i > 0) {
+            int p = (i-1) >>> 1;
+            if(key[heap[p]] <= key[v]) break;
+            heap[i] = heap[p]; where[heap[i]] = i+1; i = p;
+        }
+        heap[i] = v; where[v] = i+1;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while(true) {
+            int c = 2*i+1;
+            if(c >= size) break;
+            if(c+1 < size && key[heap[c+1]] < key[heap[c]]) c++;
+            if(key[heap[c]] >= key[v]) break;
+            heap[i] = heap[c]; where[heap[i]] = i+1; i = c;
+        }
+        heap[i] = v; where[v] = i+1;
+    }
+}
@@ -0,0 +1,170 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Cari layout shortcut yang memenuhi target panjang permainan dan batas keuntungan pemain pertama.
+// Kandidat diambil tanpa rejection sampling (semua ujung shortcut berbeda: tanpa rantai/tumpang tindih),
+// dinilai paralel secara eksak dari distribusi turn, lalu yang terbaik diperbaiki dengan mutasi.
+public class LayoutGenerator {
+    private static final int DEFAULT_PROBES = 4, BATCH = 16; // BATCH tetap: mutasi tidak bergantung jumlah core
+
+    public static class Constraints {
+        public final int shortcuts, players;
+        public final double targetTurns;   // total giliran satu permainan (semua pemain); lemparan tambahan double turn tidak dihitung
+        public final double maxAdvantage;  // P(pemain 1 menang) - 1/pemain
+
+        public Constraints(int shortcuts, int players, double targetTurns, double maxAdvantage) {
+            if(shortcuts < 0 || players < 1) throw new IllegalArgumentException("shortcuts=" + shortcuts + " players=" + players);
+            this.shortcuts = shortcuts; this.players = players; this.targetTurns = targetTurns; this.maxAdvantage = maxAdvantage;
+        }
+
+        // Default papan GUI: jumlah shortcut biasa, 10% lebih pendek dari rata-rata beberapa layout acak, keuntungan <= 1.5%
+        public static Constraints defaults(GameRules base, int players, long seed) {
+            int count = BoardLayout.shortcutCount(base.goal);
+            SplittableRandom rng = new SplittableRandom(seed);
+            double mean = 0;
+            for(int i=0; i<DEFAULT_PROBES; i++) mean += evaluate(base.withShortcuts(toMap(sample(rng, base.goal, count))), players).expectedTurns / DEFAULT_PROBES;
+            return new Constraints(count, players, mean*0.9, 0.015);
+        }
+    }
+
+    public static class Evaluation {
+        public final double expectedTurns, firstPlayerAdvantage;
+        public final double[] winRate; // index = kursi (1..pemain)
+        Evaluation(double expectedTurns, double[] winRate) {
+            this.expectedTurns = expectedTurns; this.winRate = winRate;
+            this.firstPlayerAdvantage = winRate[1] - 1.0/(winRate.length-1);
+        }
+    }
+
+    public static class Result {
+        public final Map<Integer, Integer> shortcuts;
+        public final Evaluation eval;
+        public final boolean feasible;
+        public final int candidates;
+        Result(Map<Integer, Integer> shortcuts, Evaluation eval, boolean feasible, int candidates) {
+            this.shortcuts = shortcuts; this.eval = eval; this.feasible = feasible; this.candidates = candidates;
+        }
+    }
+
+    // Pemain independen (tidak saling memblokir), jadi cukup satu distribusi turn T.
+    // Permainan selesai di ronde t kursi j bila kursi < j belum selesai sampai t, kursi > j belum selesai sebelum t.
+    public static Evaluation evaluate(GameRules rules, int players) {
+        double[] pmf = new MarkovSolver.Chain(rules).turnPmf(1, 1e-9, 1 << 20);
+        double[] win = new double[players+1];
+        double survive = 1, turns = 0; // survive = P(T >= t)
+        for(int t=1; t<pmf.length; t++) {
+            double after = Math.max(0, survive-pmf[t]); // P(T > t)
+            for(int j=1; j<=players; j++) {
+                double p = Math.pow(after, j-1) * pmf[t] * Math.pow(survive, players-j);
+                win[j] += p; turns += p*((double)(t-1)*players + j);
+            }
+            survive = after;
+        }
+        return new Evaluation(turns, win);
+    }
+
+    static double score(Evaluation e, Constraints c) {
+        double miss = Math.abs(e.expectedTurns-c.targetTurns) / Math.max(1, c.targetTurns);
+        double over = e.firstPlayerAdvantage - c.maxAdvantage;
+        return over > 0 ? 1 + over*100 + miss : miss; // layout yang memenuhi batas selalu menang
+    }
+
+    // Pilih 2k kotak berbeda dari 2..goal-1 (Fisher-Yates parsial), pasangkan berurutan, ujung kecil = asal.
+    static int[] sample(SplittableRandom rng, int goal, int count) {
+        int n = goal-2;
+        if(2*count > n) throw new IllegalArgumentException(count + " shortcuts do not fit on " + goal + " squares");
+        int[] pool = new int[n];
+        for(int i=0; i<n; i++) pool[i] = i+2;
+        for(int i=0; i<2*count; i++) { int j = i + rng.nextInt(n-i); int t = pool[i]; pool[i] = pool[j]; pool[j] = t; }
+        return Arrays.copyOf(pool, 2*count);
+    }
+
+    // Pindahkan satu ujung shortcut ke kotak kosong
+    static int[] mutate(int[] ends, SplittableRandom rng, int goal) {
+        int[] m = ends.clone();
+        boolean[] used = new boolean[goal+1];
+        for(int e : m) used[e] = true;
+        if(m.length == 0 || m.length >= goal-2) return m;
+        int k = rng.nextInt(m.length), sq;
+        do { sq = rng.nextInt(goal-2)+2; } while(used[sq]);
+        m[k] = sq;
+        return m;
+    }
+
+    static Map<Integer, Integer> toMap(int[] ends) {
+        Map<Integer, Integer> sc = new HashMap<>();
+        for(int i=0; i+1<ends.length; i+=2) sc.put(Math.min(ends[i], ends[i+1]), Math.max(ends[i], ends[i+1]));
+        return sc;
+    }
+
+    public static Result search(GameRules base, Constraints c, long seed, int maxCandidates, long budgetMs) {
+        return search(base, c, seed, maxCandidates, budgetMs, ForkJoinPool.commonPool());
+    }
+
+    // Deterministik untuk (seed, maxCandidates) selama budget waktu tidak habis lebih dulu (budgetMs <= 0: tanpa batas).
+    // Kandidat pertama selalu dinilai, jadi selalu ada hasil.
+    public static Result search(GameRules base, Constraints c, long seed, int maxCandidates, long budgetMs, ForkJoinPool pool) {
+        long deadline = budgetMs <= 0 ? Long.MAX_VALUE : System.nanoTime() + budgetMs*1_000_000;
+        SplittableRandom root = new SplittableRandom(seed);
+        int[] best = null; Evaluation bestEval = null; double bestScore = Double.MAX_VALUE;
+        int done = 0, explore = Math.max(1, maxCandidates/2);
+        while(done < maxCandidates && System.nanoTime() < deadline) {
+            int n = Math.min(BATCH, maxCandidates-done);
+            int[][] cand = new int[n][];
+            for(int i=0; i<n; i++) { // kandidat dibuat berurutan dari root supaya hasil tidak tergantung jadwal thread
+                SplittableRandom r = root.split();
+                cand[i] = done+i < explore || best == null ? sample(r, base.goal, c.shortcuts) : mutate(best, r, base.goal);
+            }
+            Evaluation[] ev = new Evaluation[n];
+            pool.invoke(new Evaluate(base, c.players, cand, ev, 0, n, done == 0 ? Long.MAX_VALUE : deadline));
+            for(int i=0; i<n; i++) {
+                if(ev[i] == null) continue; // dilewati karena budget habis
+                done++;
+                double sc = score(ev[i], c);
+                if(sc < bestScore) { bestScore = sc; best = cand[i]; bestEval = ev[i]; }
+            }
+        }
+        return new Result(toMap(best), bestEval, bestEval.firstPlayerAdvantage <= c.maxAdvantage, done);
+    }
+
+    // Tiap daun menilai satu kandidat ke slotnya sendiri di out, tanpa lock
+    private static class Evaluate extends RecursiveAction {
+        private final GameRules base; private final int players, lo, hi;
+        private final int[][] cand; private final Evaluation[] out;
+        private final long deadline;
+        Evaluate(GameRules base, int players, int[][] cand, Evaluation[] out, int lo, int hi, long deadline) {
+            this.base = base; this.players = players; this.cand = cand; this.out = out; this.lo = lo; this.hi = hi; this.deadline = deadline;
+        }
+
+        @Override protected void compute() {
+            if(hi-lo <= 1) {
+                if(lo == 0 || System.nanoTime() < deadline) out[lo] = evaluate(base.withShortcuts(toMap(cand[lo])), players);
+                return;
+            }
+            int mid = (lo+hi) >>> 1;
+            invokeAll(new Evaluate(base, players, cand, out, lo, mid, deadline), new Evaluate(base, players, cand, out, mid, hi, deadline));
+        }
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --fair-board [size] [players] [kandidat] [budgetMs]
+    public static void main(String[] args) {
+        int size = args.length>1 ? Integer.parseInt(args[1]) : BoardLayout.DEFAULT_SIZE, players = args.length>2 ? Integer.parseInt(args[2]) : 2;
+        int candidates = args.length>3 ? Integer.parseInt(args[3]) : 512;
+        long budget = args.length>4 ? Long.parseLong(args[4]) : 10_000;
+        SplittableRandom rng = new SplittableRandom(1);
+        BoardLayout board = new BoardLayout(size, rng.split());
+        GameRules base = new GameRules(board.squares, board.points(), Collections.emptyMap());
+        Constraints c = Constraints.defaults(base, players, 3);
+        Evaluation rnd = evaluate(base.withShortcuts(GameRules.genShortcuts(rng.split(), board.squares, c.shortcuts)), players);
+        long t0 = System.nanoTime();
+        Result r = search(base, c, 7, candidates, budget);
+        double sec = (System.nanoTime()-t0)/1e9;
+        System.out.printf("target turns=%.2f maxAdv=%.3f shortcuts=%d%n", c.targetTurns, c.maxAdvantage, c.shortcuts);
+        System.out.printf("random layout: turns=%.2f adv=%+.4f%n", rnd.expectedTurns, rnd.firstPlayerAdvantage);
+        System.out.printf("fair layout:   turns=%.2f adv=%+.4f feasible=%b (%d candidates, %.2fs, %.0f/s)%n",
+                r.eval.expectedTurns, r.eval.firstPlayerAdvantage, r.feasible, r.candidates, sec, r.candidates/sec);
+    }
+}
@@ -0,0 +1,166 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.List;
+
+// Satu "turn" = satu slot di antrian giliran; lemparan tambahan dari double turn masih dihitung turn yang sama.
+public class MarkovSolver {
+    private static final double EPS = 1e-12;
+    private static final int MAX_SWEEPS = 100_000, CACHE_SIZE = 64;
+    private static final Map<String, Solution> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<String, Solution> e) { return size() > CACHE_SIZE; }
+    };
+
+    public static Solution solve(GameRules rules) {
+        String key = rules.layoutKey();
+        synchronized(cache) {
+            Solution s = cache.get(key);
+            if(s != null) return s;
+        }
+        Solution s = new Solution(rules);
+        synchronized(cache) { cache.putIfAbsent(key, s); return cache.get(key); }
+    }
+
+    // Rantai satu lemparan dalam bentuk CSR: baris s (1..goal-1) -> kolom tujuan dan probabilitasnya
+    static final class Chain {
+        final int goal;
+        final int[] rowStart, col;
+        final double[] prob;
+        final boolean[] dbl;
+
+        Chain(GameRules rules) {
+            goal = rules.goal;
+            dbl = new boolean[goal+1];
+            for(int s=1; s<goal; s++) dbl[s] = rules.isDoubleTurn(s);
+            int w = GameRules.OUTCOMES;
+            rowStart = new int[goal+1];
+            int[] c = new int[goal*w]; double[] p = new double[goal*w];
+            int[] tgt = new int[w]; double[] pr = new double[w];
+            int nnz = 0;
+            for(int s=1; s<goal; s++) {
+                rowStart[s] = nnz;
+                int k = 0;
+                for(int i=0; i<w; i++) {
+                    int to = rules.landing(s, i);
+                    double q = (i < GameRules.DICE_SIDES ? GameRules.GREEN_CHANCE : 1-GameRules.GREEN_CHANCE)/GameRules.DICE_SIDES;
+                    int j = 0; while(j<k && tgt[j]!=to) j++;
+                    if(j==k) { tgt[k] = to; pr[k++] = q; } else pr[j] += q;
+                }
+                for(int j=0; j<k; j++) { c[nnz] = tgt[j]; p[nnz++] = pr[j]; }
+            }
+            rowStart[goal] = nnz;
+            col = Arrays.copyOf(c, nnz); prob = Arrays.copyOf(p, nnz);
+        }
+
+        // Distribusi maju dari satu kotak awal: pmf[t] = P(selesai tepat di turn t), berhenti saat sisa massa < eps.
+        // Massa yang mendarat di kotak double dilempar lagi di turn yang sama.
+        double[] turnPmf(int start, double eps, int maxTurns) {
+            double[] pmf = new double[64];
+            double[] mass = new double[goal+1], next = new double[goal+1], extra = new double[goal+1];
+            int[] dblSq = new int[goal]; int nd = 0;
+            for(int s=1; s<goal; s++) if(dbl[s]) dblSq[nd++] = s;
+            mass[start] = 1;
+            double left = 1;
+            int t = 0;
+            while(left >= eps && t < maxTurns) {
+                t++;
+                double done = 0, pending = 1;
+                for(int pass=0; pending > eps*1e-3; pass++) {
+                    pending = 0;
+                    int n = pass == 0 ? goal-1 : nd; // setelah sapuan pertama massa hanya ada di kotak double
+                    for(int i=0; i<n; i++) {
+                        int s = pass == 0 ? i+1 : dblSq[i];
+                        double m = mass[s];
+                        if(m == 0) continue;
+                        mass[s] = 0;
+                        for(int e=rowStart[s]; e<rowStart[s+1]; e++) {
+                            int to = col[e]; double q = m*prob[e];
+                            if(to == goal) done += q;
+                            else if(dbl[to]) { extra[to] += q; pending += q; }
+                            else next[to] += q;
+                        }
+                    }
+                    double[] tmp = mass; mass = extra; extra = tmp;
+                }
+                for(int s=1; s<goal; s++) next[s] += mass[s]; // sisa double yang sangat kecil dibawa ke turn berikutnya
+                Arrays.fill(mass, 0);
+                double[] tmp = mass; mass = next; next = tmp;
+                if(t == pmf.length) pmf = Arrays.copyOf(pmf, t*2);
+                pmf[t] = done; left -= done;
+            }
+            return Arrays.copyOf(pmf, t+1);
+        }
+    }
+
+    public static class Solution {
+        public final int goal;
+        final int[] rowStart, col;
+        final double[] prob;
+        final boolean[] dbl;
+        private final double[] expTurns, expRolls;
+        private final List<double[]> within = new ArrayList<>(); // within.get(k)[s] = P(selesai <= k turn)
+
+        Solution(GameRules rules) {
+            Chain ch = new Chain(rules);
+            goal = ch.goal; rowStart = ch.rowStart; col = ch.col; prob = ch.prob; dbl = ch.dbl;
+            expRolls = new double[goal+1]; expTurns = new double[goal+1];
+            solveExpectations();
+            within.add(new double[goal+1]);
+            within.get(0)[goal] = 1;
+        }
+
+        // Gauss-Seidel, sapuan dari goal ke bawah karena sebagian besar massa bergerak maju.
+        private void solveExpectations() {
+            for(int sweep=0; sweep<MAX_SWEEPS; sweep++) {
+                double delta = 0;
+                for(int s=goal-1; s>=1; s--) {
+                    double r = 1, tu = 1;
+                    for(int e=rowStart[s]; e<rowStart[s+1]; e++) {
+                        int t = col[e];
+                        if(t == goal) continue;
+                        r += prob[e]*expRolls[t];
+                        tu += prob[e]*(dbl[t] ? expTurns[t]-1 : expTurns[t]);
+                    }
+                    delta = Math.max(delta, Math.max(Math.abs(r-expRolls[s]), Math.abs(tu-expTurns[s])));
+                    expRolls[s] = r; expTurns[s] = tu;
+                }
+                if(delta < EPS*Math.max(1, expRolls[1])) return;
+            }
+        }
+
+        public double expectedTurns(int s) { return s>=goal ? 0 : expTurns[s]; }
+        public double expectedRolls(int s) { return s>=goal ? 0 : expRolls[s]; }
+
+        // P(selesai dalam <= k turn) untuk setiap kotak awal (index = id)
+        public synchronized double[] finishWithin(int k) {
+            while(within.size() <= k) within.add(nextLevel(within.get(within.size()-1)));
+            return within.get(k);
+        }
+
+        public double[] turnCdf(int start, int kMax) {
+            double[] cdf = new double[kMax+1];
+            for(int k=0; k<=kMax; k++) cdf[k] = finishWithin(k)[start];
+            return cdf;
+        }
+
+        // Level k: mendarat di kotak double tetap di turn yang sama (nilai level k), selain itu pakai level k-1.
+        double[] nextLevel(double[] prev) {
+            double[] cur = prev.clone();
+            cur[goal] = 1;
+            for(int sweep=0; sweep<MAX_SWEEPS; sweep++) {
+                double delta = 0;
+                for(int s=goal-1; s>=1; s--) {
+                    double v = 0;
+                    for(int e=rowStart[s]; e<rowStart[s+1]; e++) {
+                        int t = col[e];
+                        v += prob[e]*(t==goal ? 1 : dbl[t] ? cur[t] : prev[t]);
+                    }
+                    delta = Math.max(delta, Math.abs(v-cur[s]));
+                    cur[s] = v;
+                }
+                if(delta < EPS) break;
+            }
+            return cur;
+        }
+    }
+}
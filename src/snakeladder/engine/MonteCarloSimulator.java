@@ -0,0 +1,78 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class MonteCarloSimulator {
+    private static final int LEAF_GAMES = 8192;
+    private static final long TURN_LIMIT = 1_000_000; // pengaman untuk layout yang (hampir) tidak bisa selesai
+    private final GameRules rules;
+    private final int players;
+
+    public MonteCarloSimulator(GameRules rules, int players) { this.rules = rules; this.players = players; }
+
+    public SimStats run(long games, long seed) { return run(games, seed, ForkJoinPool.commonPool()); }
+
+    public SimStats run(long games, long seed, ForkJoinPool pool) {
+        return pool.invoke(new Batch(0, games, new SplittableRandom(seed)));
+    }
+
+    // Setiap batch punya stream RNG dan SimStats sendiri; hasil digabung saat join, tanpa lock.
+    private class Batch extends RecursiveTask<SimStats> {
+        private final long lo, hi;
+        private final SplittableRandom rng;
+        Batch(long lo, long hi, SplittableRandom rng) { this.lo = lo; this.hi = hi; this.rng = rng; }
+
+        @Override protected SimStats compute() {
+            if(hi-lo <= LEAF_GAMES) return playBatch();
+            long mid = (lo+hi) >>> 1;
+            Batch left = new Batch(lo, mid, rng.split());
+            left.fork();
+            SimStats right = new Batch(mid, hi, rng).compute();
+            SimStats l = left.join();
+            l.merge(right);
+            return l;
+        }
+
+        private SimStats playBatch() {
+            SimStats st = new SimStats(players, rules.goal);
+            for(long g=lo; g<hi; g++) {
+                GameState gs = new GameState(rules, players);
+                while(!gs.isOver() && gs.turnsPlayed()<TURN_LIMIT) {
+                    Turn t = gs.step(rng);
+                    if(t.link != -1) st.shortcutHits[t.stop]++;
+                }
+                st.games++;
+                long n = gs.turnsPlayed();
+                st.totalTurns += n; st.maxTurns = Math.max(st.maxTurns, n);
+                st.lengthHist[(int)Math.min(n, SimStats.MAX_TURNS)]++;
+                if(!gs.isOver()) { st.unfinished++; continue; }
+                int w = gs.winner();
+                st.wins[w]++;
+                st.winnerScoreHist[Math.min(gs.score(w), SimStats.MAX_SCORE)]++;
+                for(int p=1; p<=players; p++) {
+                    st.seatScore[p] += gs.score(p);
+                    st.scoreHist[Math.min(gs.score(p), SimStats.MAX_SCORE)]++;
+                }
+            }
+            return st;
+        }
+    }
+
+    // Mode batch: java snakeladder.SnakeDijkstraGUI --simulate <games> [players] [seed] [size]
+    public static void main(String[] args) {
+        long games = args.length>1 ? Long.parseLong(args[1]) : 1_000_000;
+        int players = args.length>2 ? Integer.parseInt(args[2]) : 2;
+        long seed = args.length>3 ? Long.parseLong(args[3]) : System.nanoTime();
+        int size = args.length>4 ? Integer.parseInt(args[4]) : BoardLayout.DEFAULT_SIZE;
+        SplittableRandom layoutRng = new SplittableRandom(seed);
+        BoardLayout board = new BoardLayout(size, layoutRng);
+        GameRules rules = new GameRules(board.squares, board.points(), GameRules.genShortcuts(layoutRng, board.squares, BoardLayout.shortcutCount(board.squares)));
+        long t0 = System.nanoTime();
+        SimStats st = new MonteCarloSimulator(rules, players).run(games, layoutRng.nextLong());
+        double sec = (System.nanoTime()-t0)/1e9;
+        System.out.print(st.report(rules.shortcuts()));
+        System.out.printf("elapsed=%.2fs (%.0f games/s, %d threads)%n", sec, games/sec, ForkJoinPool.commonPool().getParallelism());
+    }
+}
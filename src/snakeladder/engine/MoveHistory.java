@@ -0,0 +1,77 @@
+package snakeladder.engine;
+
+import java.util.*;
+
+// Riwayat posisi satu pemain (pengganti Stack<Integer> yang ter-box dan tersinkronisasi): buffer int primitif,
+// atau bila compressed selisih antar posisi sebagai varint zigzag (hampir selalu 1 byte per giliran)
+// dengan titik cek tiap 64 entri supaya get(i) tidak perlu decode dari awal.
+public final class MoveHistory {
+    private static final int CHECKPOINT = 64;
+    private final boolean compressed;
+    private int[] raw, marks; // marks[2k] = offset byte entri k*CHECKPOINT, marks[2k+1] = nilainya
+    private byte[] data;
+    private int size, bytes, last;
+
+    public MoveHistory(boolean compressed) {
+        this.compressed = compressed;
+        if(compressed) { data = new byte[32]; marks = new int[4]; } else raw = new int[16];
+    }
+
+    public int size() { return size; }
+    public int peek() { if(size == 0) throw new NoSuchElementException(); return last; }
+    public long footprintBytes() { return compressed ? data.length + 4L*marks.length : 4L*raw.length; }
+
+    public void push(int v) {
+        if(!compressed) {
+            if(size == raw.length) raw = Arrays.copyOf(raw, size*2);
+            raw[size++] = v; last = v; return;
+        }
+        if(size % CHECKPOINT == 0) {
+            int k = size / CHECKPOINT * 2;
+            if(k == marks.length) marks = Arrays.copyOf(marks, k*2);
+            marks[k] = bytes; marks[k+1] = v;
+        }
+        if(bytes + 5 > data.length) data = Arrays.copyOf(data, data.length*2);
+        int d = v - last, z = (d << 1) ^ (d >> 31);
+        while((z & ~0x7F) != 0) { data[bytes++] = (byte)(z & 0x7F | 0x80); z >>>= 7; }
+        data[bytes++] = (byte)z;
+        size++; last = v;
+    }
+
+    public int get(int i) {
+        Objects.checkIndex(i, size);
+        if(!compressed) return raw[i];
+        int k = i / CHECKPOINT, p = marks[2*k], v = marks[2*k+1];
+        while(data[p++] < 0) {} // lewati delta entri titik cek
+        for(int j=k*CHECKPOINT; j<i; j++) {
+            int z = 0, s = 0, b;
+            do { b = data[p++]; z |= (b & 0x7F) << s; s += 7; } while(b < 0);
+            v += (z >>> 1) ^ -(z & 1);
+        }
+        return v;
+    }
+
+    // Buang entri n.. (cabang baru di timeline): titik cek terdekat + lewati paling banyak 63 varint
+    public void truncate(int n) {
+        if(n >= size) return;
+        Objects.checkIndex(n, size);
+        last = n == 0 ? 0 : get(n-1);
+        if(compressed) {
+            int k = n / CHECKPOINT, p = marks[2*k];
+            for(int j=k*CHECKPOINT; j<n; j++) while(data[p++] < 0) {}
+            bytes = p;
+        }
+        size = n;
+    }
+
+    public int[] toArray() {
+        int[] a = new int[size];
+        if(!compressed) { System.arraycopy(raw, 0, a, 0, size); return a; }
+        for(int i=0, p=0, v=0; i<size; i++) {
+            int z = 0, s = 0, b;
+            do { b = data[p++]; z |= (b & 0x7F) << s; s += 7; } while(b < 0);
+            a[i] = v += (z >>> 1) ^ -(z & 1);
+        }
+        return a;
+    }
+}
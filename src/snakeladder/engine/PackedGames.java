@@ -0,0 +1,162 @@
+package snakeladder.engine;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+// State terkemas untuk banyak permainan sekaligus (server): satu slot 32 byte per permainan di buffer off-heap,
+// tanpa objek per permainan. Slot little-endian, sama persis dengan isi file simpanan:
+//   byte 0..7   posisi pemain 1..4, masing-masing 16 bit (goal <= 65535)
+//   byte 8..23  skor pemain 1..4, masing-masing 32 bit
+//   byte 24..27 jumlah giliran (32 bit tak bertanda)
+//   byte 28..31 bit 0..7 urutan giliran (4 x 2 bit, id-1, depan di bit terendah) | bit 8..10 pemain | bit 11..13 pemenang
+// Antrian giliran selalu memuat semua pemain (permainan selesai begitu ada yang finish), jadi cukup permutasi 8 bit.
+// Buffer tumbuh per chunk dan chunk lama tidak pernah dipindah, jadi actor berbeda aman memakai slot masing-masing.
+public final class PackedGames {
+    public static final int SLOT_BYTES = 32, MAX_PLAYERS = 4, MAX_GOAL = 0xFFFF;
+    private static final int CHUNK_BITS = 12, CHUNK = 1 << CHUNK_BITS; // 4096 slot = 128 KB per chunk
+    private static final int MAGIC = 0x504B4E53, VERSION = 1; // "SNKP"
+    private static final int POS = 0, SCORE = 8, TURNS = 24, META = 28;
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int[] free = new int[16];
+    private int freeTop, slots, live;
+
+    // rules: layout yang akan dimainkan di slot ini; posisi disimpan 16 bit, jadi goal harus <= MAX_GOAL
+    public synchronized int alloc(GameRules rules, int players) {
+        check(rules, players);
+        int s = freeTop > 0 ? free[--freeTop] : slots++;
+        if(s >>> CHUNK_BITS == chunks.length) {
+            ByteBuffer[] c = Arrays.copyOf(chunks, chunks.length+1);
+            c[chunks.length] = ByteBuffer.allocateDirect(CHUNK*SLOT_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            chunks = c;
+        }
+        reset(s, rules, players); live++;
+        return s;
+    }
+
+    public synchronized void free(int slot) {
+        buf(slot).putLong(off(slot)+TURNS, 0); // pemain = 0 menandai slot kosong
+        if(freeTop == free.length) free = Arrays.copyOf(free, freeTop*2);
+        free[freeTop++] = slot; live--;
+    }
+
+    public synchronized int liveGames() { return live; }
+    public synchronized long capacityBytes() { return (long)chunks.length*CHUNK*SLOT_BYTES; }
+
+    // apply() pada slot ini harus memakai rules yang sama (atau goal yang tidak lebih besar)
+    public void reset(int slot, GameRules rules, int players) {
+        check(rules, players);
+        ByteBuffer b = buf(slot); int o = off(slot), order = 0;
+        for(int i=0; i<MAX_PLAYERS; i++) b.putChar(o+POS+2*i, (char)(i < players ? 1 : 0)).putInt(o+SCORE+4*i, 0);
+        for(int i=0; i<players; i++) order |= i << 2*i;
+        b.putInt(o+TURNS, 0).putInt(o+META, order | players << 8);
+    }
+
+    private static void check(GameRules rules, int players) {
+        if(players < 1 || players > MAX_PLAYERS) throw new IllegalArgumentException("players: " + players);
+        if(rules.goal > MAX_GOAL) throw new IllegalArgumentException("Board too large to pack: " + rules.goal + " squares");
+    }
+
+    public int players(int slot) { return buf(slot).getInt(off(slot)+META) >>> 8 & 7; }
+    public int winner(int slot) { return buf(slot).getInt(off(slot)+META) >>> 11 & 7; }
+    public boolean isOver(int slot) { return winner(slot) != 0; }
+    public int currentPlayer(int slot) { return (buf(slot).getInt(off(slot)+META) & 3) + 1; }
+    public int position(int slot, int pid) { return buf(slot).getChar(off(slot)+POS+2*(pid-1)); }
+    public int score(int slot, int pid) { return buf(slot).getInt(off(slot)+SCORE+4*(pid-1)); }
+    public long turnsPlayed(int slot) { return Integer.toUnsignedLong(buf(slot).getInt(off(slot)+TURNS)); }
+
+    // Slice 32 byte tanpa salinan (mis. untuk dikirim langsung ke channel)
+    public ByteBuffer view(int slot) { return buf(slot).slice(off(slot), SLOT_BYTES).order(ByteOrder.LITTLE_ENDIAN); }
+
+    // Dadu sama persis dengan GameState.step, supaya klien yang memakai GameState tetap sinkron
+    public Turn step(int slot, GameRules rules, RandomGenerator rng, Turn out) {
+        boolean green = rng.nextDouble() < GameRules.GREEN_CHANCE;
+        int val = rng.nextInt(GameRules.DICE_SIDES)+1;
+        return apply(slot, rules, green, val, out);
+    }
+
+    public Turn apply(int slot, GameRules rules, boolean green, int val, Turn t) {
+        ByteBuffer b = buf(slot); int o = off(slot), meta = b.getInt(o+META), n = meta >>> 8 & 7;
+        if(n == 0) throw new IllegalStateException("Slot " + slot + " is free");
+        if((meta >>> 11 & 7) != 0) throw new IllegalStateException("Game is over");
+        int order = meta & 0xFF, pid = (order & 3) + 1; //GILIRAN: PEMAIN PALING DEPAN
+        t.pid = pid;
+        rules.resolve(b.getChar(o+POS+2*(pid-1)), green, val, t);
+        b.putChar(o+POS+2*(pid-1), (char)t.to);
+        t.points = rules.pointOf(t.to);
+        b.putInt(o+SCORE+4*(pid-1), b.getInt(o+SCORE+4*(pid-1)) + t.points);
+        b.putInt(o+TURNS, b.getInt(o+TURNS) + 1);
+        t.won = t.to == rules.goal;
+        t.doubleTurn = !t.won && rules.isDoubleTurn(t.to);
+        //GILIRAN: DOUBLE -> TETAP DI DEPAN, BIASA -> ROTASI KE BELAKANG
+        if(t.won) meta |= pid << 11;
+        else if(!t.doubleTurn) meta = meta & ~0xFF | order >>> 2 | (pid-1) << 2*(n-1);
+        b.putInt(o+META, meta);
+        return t;
+    }
+
+    void store(int slot, GameState g) {
+        check(g.rules, g.playerCount);
+        ByteBuffer b = buf(slot); int o = off(slot), order = 0, k = 0;
+        if(g.winner != 0) order = g.winner-1; // pemenang tetap di depan, seperti hasil apply()
+        if(g.winner != 0) k++;
+        for(int i=0; i<g.size; i++, k++) order |= (g.queue[(g.head+i)%g.queue.length]-1) << 2*k;
+        for(int i=0; i<MAX_PLAYERS; i++) {
+            boolean in = i < g.playerCount;
+            b.putChar(o+POS+2*i, (char)(in ? g.pos[i] : 0)).putInt(o+SCORE+4*i, in ? g.score[i] : 0);
+        }
+        b.putInt(o+TURNS, (int)g.turns).putInt(o+META, order | g.playerCount << 8 | g.winner << 11);
+    }
+
+    GameState load(int slot, GameRules rules) {
+        int n = players(slot), w = winner(slot), meta = buf(slot).getInt(off(slot)+META);
+        if(n == 0) throw new IllegalStateException("Slot " + slot + " is free");
+        GameState g = new GameState(rules, n);
+        for(int i=0; i<n; i++) { g.pos[i] = position(slot, i+1); g.score[i] = score(slot, i+1); g.queue[i] = (meta >>> 2*i & 3) + 1; }
+        g.turns = turnsPlayed(slot); g.winner = w;
+        if(w != 0) { g.head = 1; g.size = n-1; } // pemenang sudah keluar dari antrian
+        return g;
+    }
+
+    // SIMPAN: header 16 byte lalu isi chunk apa adanya (tanpa encode per slot).
+    // Snapshot konsisten hanya bila tidak ada apply() yang sedang berjalan.
+    public synchronized void writeTo(java.nio.channels.WritableByteChannel ch) throws IOException {
+        ByteBuffer h = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putInt(MAGIC).putInt(VERSION).putInt(slots).putInt(SLOT_BYTES).flip();
+        while(h.hasRemaining()) ch.write(h);
+        for(int c=0; c<chunks.length; c++) {
+            ByteBuffer d = chunks[c].duplicate().limit(Math.min(CHUNK, slots - c*CHUNK)*SLOT_BYTES).position(0);
+            while(d.hasRemaining()) ch.write(d);
+        }
+    }
+
+    public static PackedGames readFrom(java.nio.channels.ReadableByteChannel ch) throws IOException {
+        ByteBuffer h = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(ch, h); h.flip();
+        if(h.getInt() != MAGIC || h.getInt() != VERSION) throw new IOException("Not a packed game file");
+        int n = h.getInt();
+        if(h.getInt() != SLOT_BYTES || n < 0) throw new IOException("Unsupported slot layout");
+        PackedGames pg = new PackedGames();
+        ByteBuffer[] c = new ByteBuffer[(n + CHUNK-1) >>> CHUNK_BITS];
+        for(int i=0; i<c.length; i++) {
+            c[i] = ByteBuffer.allocateDirect(CHUNK*SLOT_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer d = c[i].duplicate().limit(Math.min(CHUNK, n - i*CHUNK)*SLOT_BYTES);
+            readFully(ch, d);
+        }
+        pg.chunks = c; pg.slots = n;
+        for(int s=n-1; s>=0; s--) { // slot kosong kembali ke free list, yang kecil dipakai lebih dulu
+            if(pg.players(s) != 0) { pg.live++; continue; }
+            if(pg.freeTop == pg.free.length) pg.free = Arrays.copyOf(pg.free, pg.freeTop*2);
+            pg.free[pg.freeTop++] = s;
+        }
+        return pg;
+    }
+
+    private static void readFully(java.nio.channels.ReadableByteChannel ch, ByteBuffer b) throws IOException {
+        while(b.hasRemaining()) if(ch.read(b) < 0) throw new EOFException("Truncated packed game file");
+    }
+
+    private ByteBuffer buf(int slot) { return chunks[slot >>> CHUNK_BITS]; }
+    private static int off(int slot) { return (slot & CHUNK-1)*SLOT_BYTES; }
+}
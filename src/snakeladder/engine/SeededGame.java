@@ -0,0 +1,34 @@
+package snakeladder.engine;
+
+import java.util.*;
+
+// Semua keacakan satu permainan diturunkan dari satu seed: poin kotak, layout shortcut, lalu dadu.
+public class SeededGame {
+    public final long seed;
+    public final BoardLayout board;
+    public final GameRules rules;
+    public final SplittableRandom dice;
+    public final boolean fair;
+    // Papan kecil memakai layout hasil LayoutGenerator (tanpa batas waktu supaya tetap bisa diputar ulang dari seed)
+    public static final int FAIR_MAX_SQUARES = 100, FAIR_CANDIDATES = 96;
+
+    public SeededGame(long seed, int size) { this(seed, size, 2, false); }
+
+    public SeededGame(long seed, int size, int players, boolean fair) {
+        this.seed = seed; this.fair = fair;
+        SplittableRandom root = new SplittableRandom(seed);
+        board = new BoardLayout(size, root.split());
+        SplittableRandom layout = root.split();
+        Map<Integer, Integer> sc;
+        if(fair) {
+            GameRules plain = new GameRules(board.squares, board.points(), Collections.emptyMap());
+            sc = LayoutGenerator.search(plain, LayoutGenerator.Constraints.defaults(plain, players, layout.nextLong()), layout.nextLong(), FAIR_CANDIDATES, 0).shortcuts;
+        } else sc = GameRules.genShortcuts(layout, board.squares, BoardLayout.shortcutCount(board.squares));
+        rules = new GameRules(board.squares, board.points(), sc);
+        dice = root.split();
+    }
+
+    public static boolean fairFits(int size) { return size*size <= FAIR_MAX_SQUARES; }
+
+    public static long newSeed() { return new SplittableRandom().nextLong(); }
+}
@@ -0,0 +1,56 @@
+package snakeladder.engine;
+
+import java.util.*;
+
+public class SimStats {
+    public static final int MAX_TURNS = 4096, MAX_SCORE = 8192;
+    final int players, goal;
+    long games, unfinished, totalTurns, maxTurns;
+    final long[] lengthHist = new long[MAX_TURNS+1]; // index = total turns per game, last = overflow
+    final long[] wins, seatScore;
+    final long[] shortcutHits;                       // index = square asal shortcut
+    final long[] scoreHist = new long[MAX_SCORE+1];  // skor akhir semua pemain
+    final long[] winnerScoreHist = new long[MAX_SCORE+1];
+
+    SimStats(int players, int goal) {
+        this.players = players; this.goal = goal;
+        wins = new long[players+1]; seatScore = new long[players+1]; shortcutHits = new long[goal+1];
+    }
+
+    void merge(SimStats o) {
+        games += o.games; unfinished += o.unfinished; totalTurns += o.totalTurns; maxTurns = Math.max(maxTurns, o.maxTurns);
+        add(lengthHist, o.lengthHist); add(wins, o.wins); add(seatScore, o.seatScore);
+        add(shortcutHits, o.shortcutHits); add(scoreHist, o.scoreHist); add(winnerScoreHist, o.winnerScoreHist);
+    }
+    private static void add(long[] a, long[] b) { for(int i=0; i<a.length; i++) a[i] += b[i]; }
+
+    public long games() { return games; }
+    public double meanTurns() { return games==0 ? 0 : (double)totalTurns/games; }
+    public double winRate(int seat) { return games==0 ? 0 : (double)wins[seat]/games; }
+    public double firstPlayerAdvantage() { return winRate(1) - 1.0/players; }
+    public double shortcutHitsPerGame(int square) { return games==0 ? 0 : (double)shortcutHits[square]/games; }
+    public int turnPercentile(double q) { return percentile(lengthHist, games, q); }
+    public int scorePercentile(double q) { return percentile(scoreHist, games*players, q); }
+    public int winnerScorePercentile(double q) { return percentile(winnerScoreHist, games, q); }
+
+    private static int percentile(long[] h, long n, double q) {
+        long target = (long)Math.ceil(q*n), acc = 0;
+        for(int i=0; i<h.length; i++) { acc += h[i]; if(acc>=target && acc>0) return i; }
+        return h.length-1;
+    }
+
+    public String report(Map<Integer, Integer> shortcuts) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("games=%d players=%d unfinished=%d%n", games, players, unfinished));
+        sb.append(String.format("turns: mean=%.2f p50=%d p90=%d p99=%d max=%d%n", meanTurns(),
+                turnPercentile(.5), turnPercentile(.9), turnPercentile(.99), maxTurns));
+        for(int s=1; s<=players; s++)
+            sb.append(String.format("seat %d: win=%.4f avgScore=%.2f%n", s, winRate(s), games==0?0:(double)seatScore[s]/games));
+        sb.append(String.format("first-player advantage=%+.4f%n", firstPlayerAdvantage()));
+        for(Map.Entry<Integer, Integer> e : new TreeMap<>(shortcuts).entrySet())
+            sb.append(String.format("shortcut %d->%d: %.4f hits/game%n", e.getKey(), e.getValue(), shortcutHitsPerGame(e.getKey())));
+        sb.append(String.format("score: p10=%d p50=%d p90=%d | winner p50=%d p90=%d%n", scorePercentile(.1),
+                scorePercentile(.5), scorePercentile(.9), winnerScorePercentile(.5), winnerScorePercentile(.9)));
+        return sb.toString();
+    }
+}
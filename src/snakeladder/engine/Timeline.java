@@ -0,0 +1,64 @@
+package snakeladder.engine;
+
+import java.util.*;
+
+// TIMELINE: satu snapshot 40 byte (tata letak slot PackedGames, tapi int[] biasa supaya papan > MAX_GOAL tetap muat)
+// + satu int meta per giliran -> O(1) waktu & memori per giliran; lompat ke giliran mana pun = salin satu snapshot,
+// bukan memutar ulang dari awal. Undo tidak menghapus apa pun; giliran yang dimainkan setelah rewind (cabang)
+// menimpa masa depan lama.
+public final class Timeline {
+    private static final int STRIDE = 2*PackedGames.MAX_PLAYERS + 2, TURNS = STRIDE-2, META = STRIDE-1;
+    private int[] snap = new int[256*STRIDE], meta = new int[256]; // meta[k]: (lemparan+6) | pid<<4 | giliran ke-n pemain itu<<7
+    private int last, cursor, seeded = Integer.MAX_VALUE; // giliran 1..seeded memakai dadu dari seed
+    private boolean finished;
+
+    public Timeline(GameState start) { store(0, start); }
+
+    public int last() { return last; }
+    public int cursor() { return cursor; }
+    public boolean atEnd() { return cursor == last; }
+    public boolean finished() { return finished; } // snapshot terakhir sudah ada pemenang: hanya untuk ditinjau
+    // Giliran awal yang masih sama dengan urutan dadu dari seed; sesudah cabang pertama dadu lanjut dari state RNG saat itu
+    public int seededTurns() { return Math.min(seeded, last); }
+
+    // Catat giliran yang baru dimainkan (`after` = state sesudahnya); bila cursor tidak di ujung, masa depan lama hilang
+    public void push(GameState after, Turn t) {
+        int n = visits(t.pid, cursor);
+        if(cursor != last) seeded = Math.min(seeded, cursor);
+        last = ++cursor;
+        if(last == meta.length) { meta = Arrays.copyOf(meta, last*2); snap = Arrays.copyOf(snap, last*2*STRIDE); }
+        meta[last] = t.signedRoll()+6 | t.pid << 4 | n << 7;
+        store(last, after);
+        finished = t.won;
+    }
+
+    private void store(int k, GameState g) {
+        int o = k*STRIDE, order = 0, j = 0;
+        if(g.winner != 0) { order = g.winner-1; j++; } // pemenang tetap di depan, seperti PackedGames
+        for(int i=0; i<g.size; i++, j++) order |= (g.queue[(g.head+i)%g.queue.length]-1) << 2*j;
+        for(int i=0; i<g.playerCount; i++) { snap[o+i] = g.pos[i]; snap[o+PackedGames.MAX_PLAYERS+i] = g.score[i]; }
+        snap[o+TURNS] = (int)g.turns; snap[o+META] = order | g.playerCount << 8 | g.winner << 11;
+    }
+
+    public GameState state(int k, GameRules rules) {
+        int o = Objects.checkIndex(k, last+1)*STRIDE, m = snap[o+META], n = m >>> 8 & 7, w = m >>> 11 & 7;
+        GameState g = new GameState(rules, n);
+        for(int i=0; i<n; i++) { g.pos[i] = snap[o+i]; g.score[i] = snap[o+PackedGames.MAX_PLAYERS+i]; g.queue[i] = (m >>> 2*i & 3) + 1; }
+        g.turns = snap[o+TURNS]; g.winner = w;
+        if(w != 0) { g.head = 1; g.size = n-1; } // pemenang sudah keluar dari antrian
+        return g;
+    }
+
+    public void moveTo(int k) { cursor = Objects.checkIndex(k, last+1); }
+    public int roll(int k) { return (meta[k] & 15) - 6; }
+    public int[] rolls() { int[] r = new int[cursor]; for(int k=1; k<=cursor; k++) r[k-1] = roll(k); return r; } // giliran 1..cursor
+    public int mover(int k) { return meta[k] >>> 4 & 7; }
+
+    // Panjang MoveHistory pemain pid pada giliran k (posisi awal + satu per giliran miliknya)
+    public int visits(int pid, int k) {
+        for(int i=k; i>=1; i--) if(mover(i) == pid) return (meta[i] >>> 7) + 1;
+        return 1;
+    }
+
+    public long footprintBytes() { return 4L*(snap.length + meta.length); }
+}
@@ -0,0 +1,43 @@
+package snakeladder.engine;
+
+// Statistik turnamen bot: dipakai GUI (live) dan runner headless
+public class Tournament {
+    public final int players, games;
+    private final long[] wins;
+    private long played, turns;
+    private final long startNs = System.nanoTime();
+
+    public Tournament(int players, int games) { this.players = players; this.games = games; wins = new long[players+1]; }
+
+    public void record(int winner, long turnsPlayed) { wins[winner]++; played++; turns += turnsPlayed; }
+    public long played() { return played; }
+    public boolean isDone() { return played >= games; }
+    public double winRate(int seat) { return played == 0 ? 0 : (double)wins[seat]/played; }
+    public double meanTurns() { return played == 0 ? 0 : (double)turns/played; }
+    public double gamesPerMinute() {
+        double min = (System.nanoTime()-startNs)/6e10;
+        return min <= 0 ? 0 : played/min;
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder(String.format("%d/%d game | %.0f game/menit |", played, games, gamesPerMinute()));
+        for(int s=1; s<=players; s++) sb.append(String.format(" P%d %.0f%%", s, winRate(s)*100));
+        return sb.toString();
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --tournament <games> [players] [size] [fair|plain]
+    public static void main(String[] args) {
+        int games = args.length>1 ? Integer.parseInt(args[1]) : 1000, players = args.length>2 ? Integer.parseInt(args[2]) : 2;
+        int size = args.length>3 ? Integer.parseInt(args[3]) : BoardLayout.DEFAULT_SIZE;
+        boolean fair = args.length>4 ? args[4].equals("fair") : SeededGame.fairFits(size);
+        Tournament t = new Tournament(players, games);
+        long lastReport = System.nanoTime();
+        while(!t.isDone()) {
+            SeededGame sg = new SeededGame(SeededGame.newSeed(), size, players, fair);
+            GameState gs = new GameState(sg.rules, players);
+            t.record(gs.playToEnd(sg.dice), gs.turnsPlayed());
+            if(System.nanoTime()-lastReport > 2_000_000_000L || t.isDone()) { System.out.println(t.summary()); lastReport = System.nanoTime(); }
+        }
+        System.out.printf("mean turns=%.2f (%s layout)%n", t.meanTurns(), fair ? "fair" : "random");
+    }
+}
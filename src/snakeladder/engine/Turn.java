@@ -0,0 +1,15 @@
+package snakeladder.engine;
+
+// Hasil satu giliran. Objek dipakai ulang oleh GameState agar step() tidak mengalokasi.
+public class Turn {
+    public int pid, from, val, steps, stop, link, to, points;
+    public boolean green, doubleTurn, won;
+    public int signedRoll() { return green ? val : -val; }
+
+    // Jalur animasi (kotak demi kotak, tanpa lompatan shortcut); hanya dibuat kalau GUI memintanya
+    public int[] path() {
+        int[] p = new int[steps];
+        for(int i=1; i<=steps; i++) p[i-1] = green ? from+i : Math.max(1, from-i);
+        return p;
+    }
+}
@@ -0,0 +1,73 @@
+package snakeladder.engine;
+
+import java.util.*;
+import java.util.List;
+
+// PELUANG MENANG LIVE: tabel cdf[t][s] = P(selesai <= t turn dari kotak s) dihitung sekali per layout, lalu tiap giliran
+// digabung dengan posisi + urutan antrian saat ini. Pemain saling independen dan giliran double = turn yang sama
+// berlanjut, jadi pemain ke-j di antrian menang di turn t bila ia selesai tepat di t, yang di depannya belum selesai
+// sampai t, dan yang di belakangnya belum selesai sampai t-1 (rumus kursi yang sama dengan LayoutGenerator.evaluate).
+// Papan besar yang tabelnya melebihi anggaran memakai aproksimasi geometrik dari E[T] per kotak.
+public final class WinOdds {
+    public static final int MAX_SQUARES = 40_000; // di atas ini panel tidak menampilkan peluang
+    static final long TABLE_BUDGET = 4_000_000; // double per tabel (32 MB)
+    static final int MAX_LEVELS = 4096;
+    static final double TAIL = 1e-7;
+    private final MarkovSolver.Solution sol;
+    private final double[][] cdf; // null = mode aproksimasi
+    private final double[] surv = new double[4], prev = new double[4];
+
+    public WinOdds(GameRules rules) {
+        sol = MarkovSolver.solve(rules);
+        int n = rules.goal+1, maxLevels = (int)Math.min(MAX_LEVELS, TABLE_BUDGET/n);
+        List<double[]> lv = new ArrayList<>();
+        double[] cur = new double[n]; cur[rules.goal] = 1;
+        lv.add(cur);
+        boolean converged = false;
+        while(!converged && lv.size() < maxLevels) {
+            cur = sol.nextLevel(cur);
+            lv.add(cur);
+            double worst = 0;
+            for(int s=1; s<rules.goal; s++) worst = Math.max(worst, 1-cur[s]);
+            converged = worst < TAIL;
+        }
+        cdf = converged || lv.size() == MAX_LEVELS ? lv.toArray(new double[0][]) : null; // MAX_LEVELS: sisa ekor dinormalisasi
+    }
+
+    public boolean exact() { return cdf != null; }
+    public double expectedTurns(int square) { return sol.expectedTurns(square); }
+
+    // pos[pid-1] = kotak tiap pemain, order = id pemain mulai dari yang sedang jalan; hasil win[pid-1]
+    public void compute(int[] pos, int[] order, int n, double[] win) {
+        Arrays.fill(win, 0, n, 0);
+        if(n == 0) return;
+        if(cdf == null) { approximate(pos, order, n, win); return; }
+        double total = 0;
+        for(int i=0; i<n; i++) prev[i] = 1 - cdf[0][pos[order[i]-1]];
+        for(int t=1; t<cdf.length; t++) {
+            double all = 1;
+            for(int i=0; i<n; i++) { surv[i] = 1 - cdf[t][pos[order[i]-1]]; all *= surv[i]; }
+            for(int j=0; j<n; j++) {
+                double p = prev[j] - surv[j];
+                if(p <= 0) continue;
+                for(int i=0; i<j; i++) p *= surv[i];
+                for(int i=j+1; i<n; i++) p *= prev[i];
+                win[order[j]-1] += p; total += p;
+            }
+            if(all < TAIL) break;
+            System.arraycopy(surv, 0, prev, 0, n);
+        }
+        if(total > 0) for(int i=0; i<n; i++) win[i] /= total;
+    }
+
+    // Tiap pemain selesai dengan peluang tetap h = 1/E[T] per turn: deret geometrik per ronde, bentuk tertutup
+    private void approximate(int[] pos, int[] order, int n, double[] win) {
+        double before = 1;
+        for(int j=0; j<n; j++) {
+            double h = 1/Math.max(1, expectedTurns(pos[order[j]-1]));
+            win[order[j]-1] = before*h;
+            before *= 1-h;
+        }
+        for(int j=0; j<n; j++) win[order[j]-1] /= 1-before; // before = peluang satu ronde penuh tanpa pemenang
+    }
+}
@@ -0,0 +1,54 @@
+package snakeladder.metrics;
+
+import java.awt.*;
+import java.util.*;
+
+// Watchdog EDT: tiap setengah ambang kirim heartbeat lewat invokeLater. Jawaban yang terlambat melewati ambang
+// dianggap macet: stack trace EDT diambil SAAT masih macet (jadi menunjuk pelakunya), durasi dicatat saat EDT pulih.
+public final class EdtWatchdog {
+    private static final int KEEP = 16;
+    private static volatile int thresholdMs = Integer.getInteger("snake.stallMs", 200);
+    private static volatile Thread edt;
+    private static volatile long posted; // 0 = tidak ada heartbeat yang ditunggu
+    private static final java.util.concurrent.atomic.LongAdder stalls = new java.util.concurrent.atomic.LongAdder();
+    private static final ArrayDeque<String> recent = new ArrayDeque<>();
+    private static boolean started;
+
+    public static synchronized void start() {
+        if(started) return;
+        started = true;
+        Thread t = new Thread(EdtWatchdog::loop, "edt-watchdog");
+        t.setDaemon(true); t.start();
+    }
+
+    public static int thresholdMs() { return thresholdMs; }
+    public static void setThresholdMs(int ms) { thresholdMs = Math.max(10, ms); }
+    public static long stalls() { return stalls.sum(); }
+    public static String[] recent() { synchronized(recent) { return recent.toArray(new String[0]); } }
+
+    private static void loop() {
+        boolean captured = false;
+        while(true) {
+            try { Thread.sleep(Math.max(5, thresholdMs/2)); } catch(InterruptedException e) { return; }
+            long p = posted, now = System.nanoTime();
+            if(p == 0) {
+                captured = false;
+                long sent = posted = System.nanoTime();
+                EventQueue.invokeLater(() -> {
+                    edt = Thread.currentThread();
+                    long lag = System.nanoTime()-sent;
+                    Metrics.EDT_LAG.record(lag);
+                    if(lag > thresholdMs*1_000_000L) { Metrics.EDT_STALL.record(lag); stalls.increment(); }
+                    posted = 0;
+                });
+            } else if(!captured && now-p > thresholdMs*1_000_000L && edt != null) {
+                captured = true;
+                StringBuilder sb = new StringBuilder(String.format("%tT EDT blocked > %d ms%n", System.currentTimeMillis(), (now-p)/1_000_000));
+                for(StackTraceElement e : edt.getStackTrace()) sb.append("\tat ").append(e).append('\n');
+                String trace = sb.toString();
+                System.err.print(trace);
+                synchronized(recent) { recent.addLast(trace); if(recent.size() > KEEP) recent.removeFirst(); }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package snakeladder.metrics;
+
+// Histogram log-linear ala HdrHistogram: 64 sub-bucket per kelipatan dua (presisi ~1.6%), 1 ns .. ~73 menit,
+// record() bebas lock dan bebas alokasi sehingga aman dipanggil dari EDT, thread audio dan thread lain sekaligus.
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 7, SUB = 1 << SUB_BITS, HALF = SUB/2, MAX_BITS = 42;
+    private static final long MAX = (1L << MAX_BITS) - 1;
+    public final String name;
+    private final java.util.concurrent.atomic.AtomicLongArray counts = new java.util.concurrent.atomic.AtomicLongArray(index(MAX)+1);
+    private final java.util.concurrent.atomic.LongAdder total = new java.util.concurrent.atomic.LongAdder(), sum = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.AtomicLong max = new java.util.concurrent.atomic.AtomicLong();
+
+    public LatencyHistogram(String name) { this.name = name; }
+
+    private static int index(long v) {
+        if(v < SUB) return (int)v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - (SUB_BITS-1);
+        return shift*HALF + (int)(v >>> shift);
+    }
+
+    // Nilai tertinggi yang jatuh ke bucket i (seperti highestEquivalentValue di HdrHistogram)
+    private static long highest(int i) {
+        if(i < SUB) return i;
+        int shift = i/HALF - 1;
+        return ((long)(i - shift*HALF + 1) << shift) - 1;
+    }
+
+    public void record(long ns) {
+        long v = Math.max(0, Math.min(ns, MAX));
+        counts.incrementAndGet(index(v));
+        total.increment(); sum.add(v);
+        if(v > max.get()) max.accumulateAndGet(v, Math::max);
+    }
+
+    public long count() { return total.sum(); }
+    public long maxNs() { return max.get(); }
+    public double meanNs() { long n = total.sum(); return n == 0 ? 0 : (double)sum.sum()/n; }
+
+    public long percentileNs(double p) {
+        long n = total.sum();
+        if(n == 0) return 0;
+        long target = Math.max(1, (long)Math.ceil(n*p/100)), seen = 0;
+        for(int i=0; i<counts.length(); i++) if((seen += counts.get(i)) >= target) return Math.min(highest(i), max.get());
+        return max.get();
+    }
+
+    public void reset() {
+        for(int i=0; i<counts.length(); i++) counts.set(i, 0);
+        total.reset(); sum.reset(); max.set(0);
+    }
+
+    public String summary() {
+        return String.format("%-16s n=%-8d p50=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms", name, count(),
+                percentileNs(50)/1e6, percentileNs(99)/1e6, percentileNs(99.9)/1e6, maxNs()/1e6);
+    }
+}
@@ -0,0 +1,56 @@
+package snakeladder.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Metrics {
+    private static final Map<String, LatencyHistogram> all = new ConcurrentHashMap<>();
+    public static final LatencyHistogram PAINT_FRAME = histogram("paint.frame"), PAINT_BOARD = histogram("paint.board"),
+            PAINT_BACKGROUND = histogram("paint.background"), PAINT_TOASTS = histogram("paint.toasts"),
+            TURN = histogram("turn.latency"), AUDIO = histogram("audio.trigger"), SAVE_SCORE = histogram("score.save"),
+            EDT_LAG = histogram("edt.lag"), EDT_STALL = histogram("edt.stall"), ODDS = histogram("odds.update");
+
+    public static LatencyHistogram histogram(String name) { return all.computeIfAbsent(name, LatencyHistogram::new); }
+    public static Collection<LatencyHistogram> histograms() { return new TreeMap<>(all).values(); }
+
+    public static String summary() {
+        StringBuilder sb = new StringBuilder();
+        for(LatencyHistogram h : histograms()) sb.append(h.summary()).append('\n');
+        return sb.append(String.format("edt stalls=%d (> %d ms)%n", EdtWatchdog.stalls(), EdtWatchdog.thresholdMs())).toString();
+    }
+
+    // JMX: jconsole / jcmd -> MBean snakeladder:type=Metrics
+    public interface MetricsMXBean {
+        String[] getHistograms();
+        String getSummary();
+        long getEdtStalls();
+        String[] getRecentStalls();
+        int getStallThresholdMs();
+        void setStallThresholdMs(int ms);
+        long count(String histogram);
+        double percentileMs(String histogram, double percentile);
+        void reset();
+    }
+
+    private static final class Bean implements MetricsMXBean {
+        public String[] getHistograms() { return histograms().stream().map(h -> h.name).toArray(String[]::new); }
+        public String getSummary() { return summary(); }
+        public long getEdtStalls() { return EdtWatchdog.stalls(); }
+        public String[] getRecentStalls() { return EdtWatchdog.recent(); }
+        public int getStallThresholdMs() { return EdtWatchdog.thresholdMs(); }
+        public void setStallThresholdMs(int ms) { EdtWatchdog.setThresholdMs(ms); }
+        public long count(String h) { LatencyHistogram x = all.get(h); return x == null ? 0 : x.count(); }
+        public double percentileMs(String h, double p) { LatencyHistogram x = all.get(h); return x == null ? 0 : x.percentileNs(p)/1e6; }
+        public void reset() { for(LatencyHistogram h : all.values()) h.reset(); }
+    }
+
+    private static boolean registered;
+
+    public static synchronized void registerMBean() {
+        if(registered) return;
+        try {
+            java.lang.management.ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new javax.management.ObjectName("snakeladder:type=Metrics"));
+            registered = true;
+        } catch(javax.management.JMException e) { System.err.println("Metrics MBean disabled: " + e); }
+    }
+}
@@ -0,0 +1,45 @@
+package snakeladder.metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+// Overlay F3: ringkasan metrik di pojok kanan atas, klik tembus (seperti ToastLayer), diperbarui 2x per detik
+public class MetricsOverlay extends JComponent {
+    private static final int W = 300, LINE = 15;
+    private final javax.swing.Timer ticker = new javax.swing.Timer(500, e -> tick());
+    private final List<String> lines = new ArrayList<>();
+    private long lastFrames, lastTick;
+
+    public MetricsOverlay() { setOpaque(false); setVisible(false); }
+
+    public void toggle() {
+        setVisible(!isVisible());
+        if(isVisible()) { lastFrames = Metrics.PAINT_FRAME.count(); lastTick = System.nanoTime(); tick(); ticker.start(); } else ticker.stop();
+    }
+
+    @Override public boolean contains(int x, int y) { return false; }
+
+    private void tick() {
+        long now = System.nanoTime(), frames = Metrics.PAINT_FRAME.count();
+        double fps = now > lastTick ? (frames-lastFrames)*1e9/(now-lastTick) : 0;
+        lastFrames = frames; lastTick = now;
+        lines.clear();
+        lines.add(String.format("frames/s %.0f   EDT stalls %d (> %d ms)", fps, EdtWatchdog.stalls(), EdtWatchdog.thresholdMs()));
+        for(LatencyHistogram h : new LatencyHistogram[]{Metrics.PAINT_FRAME, Metrics.PAINT_BOARD, Metrics.PAINT_BACKGROUND, Metrics.TURN, Metrics.AUDIO, Metrics.EDT_LAG})
+            lines.add(String.format("%-16s p50 %6.1f  p99 %6.1f ms", h.name, h.percentileNs(50)/1e6, h.percentileNs(99)/1e6));
+        Container parent = getParent();
+        if(parent != null) setBounds(parent.getWidth()-W-12, 12, W, lines.size()*LINE+12);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setColor(new Color(0, 0, 0, 170)); g2.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
+        g2.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11)); g2.setColor(Color.GREEN);
+        for(int i=0; i<lines.size(); i++) g2.drawString(lines.get(i), 8, 6 + LINE*(i+1) - 3);
+        g2.dispose();
+    }
+}
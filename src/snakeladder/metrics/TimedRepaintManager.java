@@ -0,0 +1,12 @@
+package snakeladder.metrics;
+
+import javax.swing.*;
+
+// Waktu lukis seluruh frame Swing (semua komponen kotor dalam satu putaran RepaintManager)
+public final class TimedRepaintManager extends RepaintManager {
+    @Override public void paintDirtyRegions() {
+        long t0 = System.nanoTime();
+        super.paintDirtyRegions();
+        Metrics.PAINT_FRAME.record(System.nanoTime()-t0);
+    }
+}
@@ -0,0 +1,29 @@
+package snakeladder.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Mailbox tanpa lock: pesan diproses berurutan oleh paling banyak satu tugas di executor pada satu waktu
+abstract class Actor<M> {
+    private static final int BATCH = 64;
+    private final Queue<M> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    final void tell(M m) {
+        mailbox.add(m);
+        if(scheduled.compareAndSet(false, true)) Loom.ACTORS.execute(this::drain);
+    }
+
+    private void drain() {
+        for(int i=0; i<BATCH; i++) {
+            M m = mailbox.poll();
+            if(m == null) break;
+            try { receive(m); } catch(RuntimeException e) { e.printStackTrace(); }
+        }
+        scheduled.set(false);
+        if(!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) Loom.ACTORS.execute(this::drain);
+    }
+
+    protected abstract void receive(M m);
+}
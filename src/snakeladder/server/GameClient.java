@@ -0,0 +1,28 @@
+package snakeladder.server;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.function.Consumer;
+
+// Klien sederhana untuk protokol di atas (dipakai GUI); onLine dipanggil di thread pembaca, null saat koneksi putus
+public class GameClient implements Closeable {
+    private final Socket s;
+    private final Writer out;
+
+    public GameClient(String host, int port, Consumer<String> onLine) throws IOException {
+        s = new Socket(host, port); s.setTcpNoDelay(true);
+        out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), java.nio.charset.StandardCharsets.UTF_8));
+        BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), java.nio.charset.StandardCharsets.UTF_8));
+        Thread t = new Thread(() -> {
+            try { String l; while((l = in.readLine()) != null) onLine.accept(l); } catch(IOException e) { /* putus */ }
+            onLine.accept(null);
+        }, "game-client");
+        t.setDaemon(true); t.start();
+    }
+
+    public synchronized void send(String line) {
+        try { out.write(line); out.write('\n'); out.flush(); } catch(IOException e) { close(); }
+    }
+
+    @Override public void close() { try { s.close(); } catch(IOException e) { /* sudah tertutup */ } }
+}
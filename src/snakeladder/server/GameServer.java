@@ -0,0 +1,194 @@
+package snakeladder.server;
+
+import snakeladder.engine.*;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class GameServer implements Closeable {
+    static final int OUTBOX_LINES = 4096; // baris antri per koneksi sebelum klien dianggap terlalu lambat
+    private final ServerSocket socket;
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final PackedGames states = new PackedGames();
+    private final int size;
+    private final boolean fair;
+    private final java.util.concurrent.atomic.LongAdder commands = new java.util.concurrent.atomic.LongAdder(), games = new java.util.concurrent.atomic.LongAdder(), dropped = new java.util.concurrent.atomic.LongAdder();
+
+    public GameServer(int port, int size, boolean fair) throws IOException {
+        if(size*size > PackedGames.MAX_GOAL) throw new IllegalArgumentException("Board too large: " + size);
+        this.size = size; this.fair = fair;
+        socket = new ServerSocket(port, 1024);
+        Loom.start("server-accept", this::acceptLoop);
+    }
+
+    public int port() { return socket.getLocalPort(); }
+    public int roomCount() { return rooms.size(); }
+    public long commands() { return commands.sum(); }
+    public long gamesFinished() { return games.sum(); }
+    public long slowClientsDropped() { return dropped.sum(); }
+    public int liveGames() { return states.liveGames(); }
+    public long stateBytes() { return states.capacityBytes(); }
+
+    private void acceptLoop() {
+        while(!socket.isClosed()) {
+            try {
+                Socket s = socket.accept();
+                s.setTcpNoDelay(true);
+                Conn c = new Conn(s);
+                Loom.start("conn-" + s.getPort(), c::readLoop);
+                Loom.start("conn-out-" + s.getPort(), c::writeLoop);
+            } catch(IOException e) { if(!socket.isClosed()) e.printStackTrace(); }
+        }
+    }
+
+    @Override public void close() throws IOException { socket.close(); }
+
+    static final class Cmd {
+        final Conn from; final String verb; final String[] args;
+        Cmd(Conn from, String verb, String[] args) { this.from = from; this.verb = verb; this.args = args; }
+    }
+
+    // Satu koneksi: thread pembaca + thread penulis sendiri. Write/flush socket yang blocking tidak pernah
+    // berjalan di pool actor, jadi klien yang lambat hanya menahan thread penulisnya sendiri.
+    // Outbox dibatasi: klien yang tidak membaca sampai outbox penuh diputus, bukan dibiarkan menghabiskan heap.
+    final class Conn {
+        private final Socket s;
+        private final Writer out;
+        private final BlockingQueue<String> outbox = new LinkedBlockingQueue<>(OUTBOX_LINES);
+        private volatile boolean closed;
+        final Set<String> joined = ConcurrentHashMap.newKeySet();
+
+        Conn(Socket s) throws IOException {
+            this.s = s;
+            out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), java.nio.charset.StandardCharsets.UTF_8), 1 << 16);
+        }
+
+        void send(String line) {
+            if(closed || outbox.offer(line)) return;
+            dropped.increment();
+            close();
+        }
+
+        void writeLoop() {
+            try {
+                for(String line; (line = outbox.take()) != CLOSE; ) {
+                    out.write(line); out.write('\n');
+                    if(outbox.isEmpty()) out.flush(); // flush sekali per semburan pesan
+                }
+            } catch(IOException | InterruptedException e) { /* koneksi putus */ }
+            close();
+        }
+
+        void readLoop() {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), java.nio.charset.StandardCharsets.UTF_8), 1 << 16)) {
+                String line;
+                while((line = in.readLine()) != null) dispatch(this, line);
+            } catch(IOException e) { /* koneksi putus */ }
+            close();
+            for(String r : joined) { Room room = rooms.get(r); if(room != null) room.tell(new Cmd(this, "LEAVE", new String[]{r})); }
+        }
+
+        // Socket ditutup dulu supaya penulis yang tertahan di write ikut berhenti; antrian dibuang agar CLOSE muat
+        void close() {
+            closed = true;
+            try { s.close(); } catch(IOException e) { /* sudah tertutup */ }
+            outbox.clear();
+            outbox.offer(CLOSE);
+        }
+    }
+
+    private static final String CLOSE = new String("CLOSE"); // penanda akhir outbox, dibandingkan dengan ==
+
+    private void dispatch(Conn c, String line) {
+        commands.increment();
+        String[] p = line.trim().split(" ");
+        String verb = p[0].toUpperCase(Locale.ROOT);
+        if(verb.equals("PING")) { c.send("PONG"); return; }
+        if(p.length < 2) { c.send("ERR - bad-command"); return; }
+        String id = p[1];
+        Room room;
+        if(verb.equals("JOIN")) {
+            int players;
+            try { players = Integer.parseInt(p[2]); } catch(RuntimeException e) { c.send("ERR " + id + " bad-join"); return; }
+            if(players < 1 || players > 4) { c.send("ERR " + id + " bad-players"); return; }
+            room = rooms.computeIfAbsent(id, k -> new Room(k, players));
+        } else room = rooms.get(id);
+        if(room == null) { c.send("ERR " + id + " no-room"); return; }
+        room.tell(new Cmd(c, verb, p));
+    }
+
+    // Semua state permainan satu room hanya disentuh oleh actor room itu sendiri
+    final class Room extends Actor<Cmd> {
+        final String id; final int players;
+        final Conn[] seat; final String[] names;
+        int joined; boolean closed;
+        SeededGame sg; int slot = -1; // state permainan di PackedGames milik server
+
+        Room(String id, int players) { this.id = id; this.players = players; seat = new Conn[players]; names = new String[players]; }
+
+        @Override protected void receive(Cmd c) {
+            if(closed) { c.from.send("ERR " + id + " closed"); return; }
+            switch(c.verb) {
+                case "JOIN": {
+                    if(joined == players) { c.from.send("ERR " + id + " full"); return; }
+                    seat[joined] = c.from;
+                    names[joined] = c.args.length > 3 ? c.args[3] : "Player" + (joined+1);
+                    joined++;
+                    c.from.joined.add(id);
+                    c.from.send("SEAT " + id + " " + joined);
+                    if(joined == players) newGame();
+                    return;
+                }
+                case "NEW": if(seated(c.from) && joined == players) newGame(); else c.from.send("ERR " + id + " not-ready"); return;
+                case "ROLL": {
+                    if(slot < 0) { c.from.send("ERR " + id + " not-started"); return; }
+                    if(states.isOver(slot)) { c.from.send("ERR " + id + " over"); return; }
+                    if(seat[states.currentPlayer(slot)-1] != c.from) { c.from.send("ERR " + id + " not-your-turn"); return; }
+                    Turn t = states.step(slot, sg.rules, sg.dice, new Turn());
+                    broadcast("TURN " + id + " " + t.pid + " " + (t.green ? 1 : 0) + " " + t.val + " " + t.stop + " " + t.link + " " + t.points
+                            + " " + (t.doubleTurn ? 1 : 0) + " " + (t.won ? 1 : 0));
+                    if(t.won) games.increment();
+                    return;
+                }
+                case "LEAVE": {
+                    if(!seated(c.from)) { c.from.send("ERR " + id + " not-seated"); return; }
+                    closed = true;
+                    rooms.remove(id, this);
+                    if(slot >= 0) { states.free(slot); slot = -1; sg = null; }
+                    for(Conn s : seat) if(s != null) { s.joined.remove(id); if(s != c.from) s.send("CLOSED " + id); }
+                    return;
+                }
+                default: c.from.send("ERR " + id + " unknown-command");
+            }
+        }
+
+        private boolean seated(Conn c) { for(Conn s : seat) if(s == c) return true; return false; }
+
+        private void newGame() {
+            sg = new SeededGame(SeededGame.newSeed(), size, players, fair);
+            if(slot < 0) slot = states.alloc(sg.rules, players); else states.reset(slot, sg.rules, players);
+            broadcast("START " + id + " " + sg.seed + " " + size + " " + (fair ? 1 : 0) + " " + String.join(" ", names));
+        }
+
+        private void broadcast(String line) {
+            Conn last = null;
+            for(Conn s : seat) if(s != last) { s.send(line); last = s; } // satu koneksi bisa memegang beberapa kursi berurutan
+        }
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --server [port] [size] [fair]
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length>1 ? Integer.parseInt(args[1]) : 7777, size = args.length>2 ? Integer.parseInt(args[2]) : BoardLayout.DEFAULT_SIZE;
+        GameServer srv = new GameServer(port, size, args.length>3 && args[3].equals("fair"));
+        System.out.printf("listening on %d (%s)%n", srv.port(), Loom.VIRTUAL ? "virtual threads" : "fork/join actors, platform I/O threads");
+        while(true) {
+            Thread.sleep(5000);
+            System.out.printf("rooms=%d commands=%d games=%d live=%d state=%d KB dropped=%d%n", srv.roomCount(), srv.commands(), srv.gamesFinished(), srv.liveGames(), srv.stateBytes() >> 10, srv.slowClientsDropped());
+        }
+    }
+}
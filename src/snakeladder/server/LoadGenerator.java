@@ -0,0 +1,101 @@
+package snakeladder.server;
+
+import snakeladder.engine.BoardLayout;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.*;
+
+// Generator beban loopback: tiap room dipegang penuh oleh satu koneksi generator, satu ROLL menunggu jawaban per room
+// (closed loop), latensi = kirim ROLL sampai TURN/ERR room itu diterima.
+public class LoadGenerator {
+    private static final int MAX_SAMPLES = 4_000_000;
+
+    // java snakeladder.SnakeDijkstraGUI --loadtest [rooms] [koneksi] [detik] [pemain] [host:port]
+    public static void main(String[] args) throws Exception {
+        int rooms = args.length>1 ? Integer.parseInt(args[1]) : 10_000, conns = args.length>2 ? Integer.parseInt(args[2]) : 8;
+        int seconds = args.length>3 ? Integer.parseInt(args[3]) : 10, players = args.length>4 ? Integer.parseInt(args[4]) : 2;
+        GameServer local = null;
+        String host = "127.0.0.1"; int port;
+        if(args.length>5) { host = args[5].split(":")[0]; port = Integer.parseInt(args[5].split(":")[1]); }
+        else { local = new GameServer(0, BoardLayout.DEFAULT_SIZE, false); port = local.port(); }
+        System.out.printf("%d rooms x %d players over %d connections for %ds (%s)%n", rooms, players, conns, seconds,
+                Loom.VIRTUAL ? "virtual threads" : "fork/join actors, platform I/O threads");
+
+        Client[] cs = new Client[conns];
+        for(int i=0; i<conns; i++) cs[i] = new Client(host, port, i, conns, rooms, players);
+        for(Client c : cs) c.thread.start();
+        for(Client c : cs) c.ready.await();
+        long t0 = System.nanoTime();
+        for(Client c : cs) c.go(t0 + seconds*1_000_000_000L);
+        for(Client c : cs) c.thread.join();
+        double sec = (System.nanoTime()-t0)/1e9;
+
+        long n = 0, done = 0; int total = 0;
+        for(Client c : cs) { n += c.replies; done += c.games; total += c.nSamples; }
+        long[] all = new long[total]; int k = 0;
+        for(Client c : cs) { System.arraycopy(c.samples, 0, all, k, c.nSamples); k += c.nSamples; }
+        Arrays.sort(all);
+        System.out.printf("commands=%d (%.0f/s) games=%d%n", n, n/sec, done);
+        if(total > 0) System.out.printf("latency us: p50=%.0f p99=%.0f p99.9=%.0f max=%.0f%n",
+                all[total/2]/1e3, all[(int)(total*0.99)]/1e3, all[(int)(total*0.999)]/1e3, all[total-1]/1e3);
+        if(local != null) { System.out.printf("server rooms=%d commands=%d live=%d%n", local.roomCount(), local.commands(), local.liveGames()); local.close(); }
+    }
+
+    static final class Client {
+        final Thread thread;
+        final java.util.concurrent.CountDownLatch ready = new java.util.concurrent.CountDownLatch(1);
+        private final java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+        private final Socket s; private final BufferedReader in; private final Writer out;
+        private final int first, step, rooms, players;
+        private final long[] sentAt;
+        final long[] samples = new long[MAX_SAMPLES/8];
+        int nSamples; long replies, games;
+        private volatile long deadline;
+
+        Client(String host, int port, int first, int step, int rooms, int players) throws IOException {
+            s = new Socket(host, port); s.setTcpNoDelay(true);
+            in = new BufferedReader(new InputStreamReader(s.getInputStream(), java.nio.charset.StandardCharsets.UTF_8), 1 << 16);
+            out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), java.nio.charset.StandardCharsets.UTF_8), 1 << 16);
+            this.first = first; this.step = step; this.rooms = rooms; this.players = players;
+            sentAt = new long[rooms];
+            thread = new Thread(this::run, "load-" + first);
+        }
+
+        void go(long deadline) { this.deadline = deadline; start.countDown(); }
+
+        private void roll(int r) throws IOException { sentAt[r] = System.nanoTime(); out.write("ROLL r" + r + "\n"); }
+
+        private void run() {
+            try {
+                int mine = 0, started = 0;
+                for(int r=first; r<rooms; r+=step, mine++) for(int p=0; p<players; p++) out.write("JOIN r" + r + " " + players + " bot" + p + "\n");
+                out.flush();
+                while(started < mine) { String l = in.readLine(); if(l == null) return; if(l.startsWith("START")) started++; }
+                ready.countDown();
+                start.await();
+                for(int r=first; r<rooms; r+=step) roll(r);
+                out.flush();
+                int open = mine;
+                while(open > 0) {
+                    String l = in.readLine();
+                    if(l == null) break;
+                    int sp1 = l.indexOf(' '), sp2 = l.indexOf(' ', sp1+1);
+                    int r = Integer.parseInt(l.substring(sp1+2, sp2 < 0 ? l.length() : sp2));
+                    boolean more = System.nanoTime() < deadline;
+                    if(l.startsWith("TURN") || l.startsWith("ERR")) {
+                        long lat = System.nanoTime()-sentAt[r];
+                        replies++;
+                        if(nSamples < samples.length) samples[nSamples++] = lat;
+                        boolean won = l.endsWith(" 1") && l.startsWith("TURN");
+                        if(won) { games++; if(more) out.write("NEW r" + r + "\n"); else open--; }
+                        else if(more) roll(r); else open--;
+                    } else if(l.startsWith("START") && more) roll(r);
+                    else if(l.startsWith("START")) open--;
+                    if(!in.ready()) out.flush();
+                }
+                s.close();
+            } catch(IOException | InterruptedException e) { e.printStackTrace(); ready.countDown(); }
+        }
+    }
+}
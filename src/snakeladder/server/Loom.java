@@ -0,0 +1,40 @@
+package snakeladder.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+// Protokol baris teks (UTF-8), perintah selalu menyebut room sehingga satu koneksi bisa duduk di banyak room:
+//   JOIN <room> <pemain> <nama>  -> SEAT <room> <pid>; bila penuh ke semua: START <room> <seed> <size> <fair 0/1> <nama1..namaN>
+//   ROLL <room>                  -> ke semua: TURN <room> <pid> <hijau 0/1> <nilai> <stop> <link> <poin> <double 0/1> <menang 0/1>
+//   NEW <room>                   -> permainan baru di room yang sama (START lagi)
+//   LEAVE <room>                 -> CLOSED <room> ke pemain lain, room dihapus (hanya dari koneksi yang duduk di room itu)
+//   PING                         -> PONG
+// Kesalahan: ERR <room> <alasan>. Klien membangun papan sendiri dari seed (SeededGame) dan menerapkan TURN dengan GameState.apply.
+final class Loom {
+    // Java 21+: satu virtual thread per tugas; selain itu ForkJoinPool (async) untuk actor dan thread platform untuk I/O blocking
+    static final boolean VIRTUAL;
+    static final ExecutorService ACTORS;
+    private static final Object OF_VIRTUAL;
+    private static final java.lang.reflect.Method START; // lewat interface publik Thread.Builder, bukan kelas implementasinya
+
+    static {
+        ExecutorService ex = null; Object builder = null; java.lang.reflect.Method start = null;
+        try {
+            builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            start = Class.forName("java.lang.Thread$Builder").getMethod("start", Runnable.class);
+            ex = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch(ReflectiveOperationException e) { builder = null; start = null; /* JDK tanpa virtual thread */ }
+        VIRTUAL = ex != null;
+        ACTORS = ex != null ? ex : new ForkJoinPool(Runtime.getRuntime().availableProcessors(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        OF_VIRTUAL = builder; START = start;
+    }
+
+    static void start(String name, Runnable r) {
+        if(START != null) {
+            try { START.invoke(OF_VIRTUAL, r); return; }
+            catch(ReflectiveOperationException e) { /* jatuh ke thread platform */ }
+        }
+        Thread t = new Thread(r, name); t.setDaemon(true); t.start();
+    }
+}
@@ -0,0 +1,431 @@
+package snakeladder.store;
+
+import snakeladder.engine.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+// Satu file per kolom berisi primitif little-endian apa adanya: kolom game (satu baris per game, skor/nama 4 kursi)
+// dan kolom turn (satu baris per giliran, game.first menunjuk baris pertamanya). Writer hanya menambah di ujung;
+// baris game ditulis setelah semua turn-nya, dan saat dibuka ulang game yang turn-nya tidak lengkap (crash) dipotong.
+// Reader memetakan kolom per segmen 1 GB dan memindai blok 64K baris secara paralel (Fork/Join): tiap blok disalin
+// sekali ke array primitif lalu diagregasi dengan loop rapat, hanya kolom yang dipakai query yang disentuh.
+public final class GameArchive {
+    public static final Path DIR = Paths.get("snake_archive");
+    static final int SEATS = PackedGames.MAX_PLAYERS, BLOCK = 1 << 16, SEG_BITS = 30;
+    static final byte LINK = 4, DOUBLE = 8, WON = 16; // turn.flags: bit 0-1 = pid-1
+    private static final String NAMES = "names.txt", LOCK = "archive.lock";
+
+    enum Col {
+        LAYOUT("game.layout.i64", 8, false), SEED("game.seed.i64", 8, false), META("game.meta.i32", 4, false), // meta: size | players<<12 | winner<<16 | fair<<20
+        TURNS("game.turns.i32", 4, false), FIRST("game.first.i64", 8, false), LINKS("game.links.i32", 4, false),
+        SCORE("game.score.i32x4", 4*SEATS, false), NAME("game.name.i32x4", 4*SEATS, false),
+        ROLL("turn.roll.i8", 1, true), POS("turn.pos.i32", 4, true), POINTS("turn.points.i16", 2, true), FLAGS("turn.flags.i8", 1, true);
+        final String file; final int width; final boolean perTurn;
+        Col(String file, int width, boolean perTurn) { this.file = file; this.width = width; this.perTurn = perTurn; }
+    }
+
+    // Kunci layout 64-bit (FNV-1a atas GameRules.layoutKey), cukup untuk grup "per layout"
+    static long layoutHash(GameRules rules) {
+        long h = 0xcbf29ce484222325L;
+        for(char c : rules.layoutKey().toCharArray()) { h ^= c; h *= 0x100000001b3L; }
+        return h;
+    }
+
+    // Jumlah game/turn yang utuh di dir: kolom game terpendek, lalu mundur ke game terakhir yang semua turn-nya ada
+    // (akhir game first+turns naik monoton, jadi cukup binary search)
+    private static long[] committed(Path dir) throws IOException {
+        long games = Long.MAX_VALUE, avail = Long.MAX_VALUE;
+        for(Col c : Col.values()) {
+            long rows = Files.exists(dir.resolve(c.file)) ? Files.size(dir.resolve(c.file))/c.width : 0;
+            if(c.perTurn) avail = Math.min(avail, rows); else games = Math.min(games, rows);
+        }
+        if(games == 0) return new long[]{0, 0};
+        try (FileChannel f = FileChannel.open(dir.resolve(Col.FIRST.file)); FileChannel t = FileChannel.open(dir.resolve(Col.TURNS.file))) {
+            ByteBuffer b = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            long lo = 0, hi = games; // invarian: game ke-lo (1-based) selesai dalam avail
+            while(lo < hi) {
+                long g = (lo+hi+1) >>> 1;
+                if(gameEnd(f, t, b, g-1) <= avail) lo = g; else hi = g-1;
+            }
+            return new long[]{lo, lo == 0 ? 0 : gameEnd(f, t, b, lo-1)};
+        }
+    }
+
+    private static long gameEnd(FileChannel first, FileChannel turns, ByteBuffer b, long game) throws IOException {
+        b.clear(); first.read(b, game*8); long f = b.flip().getLong();
+        b.clear().limit(4); turns.read(b, game*4);
+        return f + b.flip().getInt();
+    }
+
+    public static final class Writer implements Closeable {
+        private final Path dir;
+        private final FileChannel[] ch = new FileChannel[Col.values().length];
+        private final ByteBuffer[] buf = new ByteBuffer[ch.length];
+        private final FileChannel lockCh;
+        private final Map<String, Integer> names = new HashMap<>(); // nama (sudah dibersihkan) -> nomor baris di names.txt
+        private int nameCount;
+        private final java.io.Writer namesOut;
+        private long games, turns, first;
+        private int links, turnCount;
+        private final int[] nameIds = new int[SEATS];
+        private long layout, seed; private int meta;
+        private GameRules lastRules;
+
+        public Writer(Path dir) throws IOException {
+            this.dir = dir;
+            Files.createDirectories(dir);
+            lockCh = FileChannel.open(dir.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if(lockCh.tryLock() == null) { lockCh.close(); throw new IOException("Archive " + dir + " is used by another process"); }
+            long[] n = committed(dir);
+            games = n[0]; turns = n[1];
+            for(Col c : Col.values()) {
+                FileChannel f = FileChannel.open(dir.resolve(c.file), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                f.truncate((c.perTurn ? turns : games)*c.width); f.position(f.size()); // buang ekor setengah jadi
+                ch[c.ordinal()] = f; buf[c.ordinal()] = ByteBuffer.allocateDirect(c.perTurn ? 1 << 16 : 1 << 12).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            if(Files.exists(dir.resolve(NAMES))) for(String s : Files.readAllLines(dir.resolve(NAMES), java.nio.charset.StandardCharsets.UTF_8)) names.putIfAbsent(s, nameCount++);
+            namesOut = Files.newBufferedWriter(dir.resolve(NAMES), java.nio.charset.StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+
+        public long games() { return games; }
+        public long turns() { return turns; }
+
+        public void beginGame(long seed, int size, boolean fair, GameRules rules, String[] players) throws IOException {
+            if(rules != lastRules) { lastRules = rules; layout = layoutHash(rules); }
+            this.seed = seed; meta = size | players.length << 12 | (fair ? 1 << 20 : 0);
+            first = turns; links = 0; turnCount = 0;
+            for(int i=0; i<SEATS; i++) nameIds[i] = i < players.length ? nameId(players[i]) : -1;
+        }
+
+        // Id = nomor baris yang dibaca Reader, jadi CR/LF dibersihkan sebelum lookup (readAllLines memecah keduanya)
+        // dan baris duplikat di file lama tetap dihitung
+        private int nameId(String name) throws IOException {
+            String line = name.replace('\r', ' ').replace('\n', ' ');
+            Integer id = names.get(line);
+            if(id != null) return id;
+            names.put(line, nameCount);
+            namesOut.write(line); namesOut.write('\n');
+            return nameCount++;
+        }
+
+        public void turn(Turn t) throws IOException {
+            put(Col.ROLL).put((byte)t.signedRoll());
+            put(Col.POS).putInt(t.link != -1 ? t.link : t.stop);
+            put(Col.POINTS).putShort((short)Math.min(Short.MAX_VALUE, t.points));
+            put(Col.FLAGS).put((byte)(t.pid-1 | (t.link != -1 ? LINK : 0) | (t.doubleTurn ? DOUBLE : 0) | (t.won ? WON : 0)));
+            if(t.link != -1) links++;
+            turnCount++; turns++;
+        }
+
+        public void endGame(GameState g) throws IOException {
+            put(Col.LAYOUT).putLong(layout); put(Col.SEED).putLong(seed);
+            put(Col.META).putInt(meta | g.winner() << 16);
+            put(Col.TURNS).putInt(turnCount); put(Col.FIRST).putLong(first); put(Col.LINKS).putInt(links);
+            ByteBuffer s = put(Col.SCORE), n = put(Col.NAME);
+            for(int i=0; i<SEATS; i++) { s.putInt(i < g.playerCount ? g.score(i+1) : 0); n.putInt(nameIds[i]); }
+            games++;
+        }
+
+        // Satu game utuh dari lemparan bertanda (+ hijau, - merah), mis. dari Timeline GUI
+        public void append(long seed, int size, boolean fair, GameRules rules, String[] players, int[] rolls) throws IOException {
+            GameState g = new GameState(rules, players.length);
+            beginGame(seed, size, fair, rules, players);
+            for(int r : rolls) turn(g.apply(r > 0, Math.abs(r)));
+            endGame(g);
+        }
+
+        private ByteBuffer put(Col c) throws IOException {
+            ByteBuffer b = buf[c.ordinal()];
+            if(b.remaining() < c.width) { if(c.perTurn) drain(c); else flush(); } // kolom game tidak pernah mendahului turn-nya
+            return b;
+        }
+
+        private void drain(Col c) throws IOException {
+            ByteBuffer b = buf[c.ordinal()].flip();
+            while(b.hasRemaining()) ch[c.ordinal()].write(b);
+            b.clear();
+        }
+
+        // Kolom turn dan nama dulu, kolom game terakhir: game yang terlihat selalu lengkap
+        public void flush() throws IOException {
+            namesOut.flush();
+            for(Col c : Col.values()) if(c.perTurn) drain(c);
+            for(Col c : Col.values()) if(!c.perTurn) drain(c);
+        }
+
+        @Override public void close() throws IOException {
+            try { flush(); } finally {
+                namesOut.close();
+                for(FileChannel f : ch) f.close();
+                lockCh.close();
+            }
+        }
+    }
+
+    // GUI: tulis di thread archiver supaya EDT tidak menunggu disk; gagal tulis hanya mematikan arsip
+    private static final ExecutorService appender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "archive-writer"); t.setDaemon(true); return t;
+    });
+    private static Writer shared;
+    private static boolean disabled;
+
+    public static void appendAsync(long seed, int size, boolean fair, GameRules rules, String[] players, int[] rolls) {
+        appender.execute(() -> {
+            if(disabled) return;
+            try {
+                if(shared == null) {
+                    shared = new Writer(DIR);
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                        try { appender.submit(() -> { shared.close(); return null; }).get(2, java.util.concurrent.TimeUnit.SECONDS); } catch(Exception ignored) {}
+                    }, "archive-close"));
+                }
+                shared.append(seed, size, fair, rules, players, rolls);
+                shared.flush();
+            } catch(IOException e) { System.err.println("Archive disabled: " + e); disabled = true; }
+        });
+    }
+
+    public static final class Reader implements Closeable {
+        public final long games, turns;
+        private final ByteBuffer[][] seg = new ByteBuffer[Col.values().length][];
+        private final List<String> names;
+
+        public Reader(Path dir) throws IOException {
+            long[] n = committed(dir);
+            games = n[0]; turns = n[1];
+            for(Col c : Col.values()) {
+                long bytes = (c.perTurn ? turns : games)*c.width;
+                int k = (int)((bytes + (1L << SEG_BITS) - 1) >>> SEG_BITS);
+                seg[c.ordinal()] = new ByteBuffer[k];
+                if(k == 0) continue;
+                try (FileChannel f = FileChannel.open(dir.resolve(c.file))) {
+                    for(int i=0; i<k; i++) {
+                        long off = (long)i << SEG_BITS;
+                        seg[c.ordinal()][i] = f.map(FileChannel.MapMode.READ_ONLY, off, Math.min(1L << SEG_BITS, bytes-off)).order(ByteOrder.LITTLE_ENDIAN);
+                    }
+                }
+            }
+            Path np = dir.resolve(NAMES);
+            names = Files.exists(np) ? Files.readAllLines(np, java.nio.charset.StandardCharsets.UTF_8) : List.of();
+        }
+
+        public String name(int id) { return id >= 0 && id < names.size() ? names.get(id) : "?"; }
+
+        // n baris mulai `row` (blok hasil scan tidak pernah melewati batas segmen: 2^30 habis dibagi BLOCK*lebar)
+        private ByteBuffer rows(Col c, long row, int n) {
+            long b = row*c.width;
+            int off = (int)(b & ((1L << SEG_BITS)-1));
+            return seg[c.ordinal()][(int)(b >>> SEG_BITS)].duplicate().position(off).limit(off + n*c.width).slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        int[] ints(Col c, long row, int n, int[] dst) { rows(c, row, n).asIntBuffer().get(dst, 0, n*c.width/4); return dst; }
+        long[] longs(Col c, long row, int n, long[] dst) { rows(c, row, n).asLongBuffer().get(dst, 0, n); return dst; }
+        byte[] bytes(Col c, long row, int n, byte[] dst) { rows(c, row, n).get(dst, 0, n); return dst; }
+
+        interface Leaf<R> { R scan(long lo, int n); }
+
+        private static final class Scan<R> extends RecursiveTask<R> {
+            private final long lo, hi; private final Leaf<R> leaf; private final BinaryOperator<R> merge;
+            Scan(long lo, long hi, Leaf<R> leaf, BinaryOperator<R> merge) { this.lo = lo; this.hi = hi; this.leaf = leaf; this.merge = merge; }
+            @Override protected R compute() {
+                if(hi-lo <= BLOCK) return leaf.scan(lo, (int)(hi-lo));
+                long mid = lo + (hi-lo)/BLOCK/2*BLOCK; // tetap selaras blok
+                if(mid == lo) mid += BLOCK;
+                Scan<R> left = new Scan<>(lo, mid, leaf, merge);
+                left.fork();
+                R right = new Scan<>(mid, hi, leaf, merge).compute();
+                return merge.apply(left.join(), right);
+            }
+        }
+
+        <R> R scan(long rows, Leaf<R> leaf, BinaryOperator<R> merge, R empty) {
+            return rows == 0 ? empty : ForkJoinPool.commonPool().invoke(new Scan<>(0, rows, leaf, merge));
+        }
+
+        // Rata-rata panjang game per layout: kolom layout + turns, agregasi hash primitif per blok
+        public LayoutLengths lengthByLayout() {
+            return scan(games, (lo, n) -> {
+                long[] key = longs(Col.LAYOUT, lo, n, new long[n]);
+                int[] len = ints(Col.TURNS, lo, n, new int[n]);
+                LayoutLengths a = new LayoutLengths(64);
+                for(int i=0; i<n; i++) a.add(key[i], 1, len[i]);
+                return a;
+            }, LayoutLengths::merge, new LayoutLengths(1));
+        }
+
+        // wins[p][0] = jumlah game dengan p pemain, wins[p][s] = kemenangan kursi s
+        public long[][] winsBySeat() {
+            return scan(games, (lo, n) -> {
+                int[] meta = ints(Col.META, lo, n, new int[n]);
+                long[][] w = new long[SEATS+1][SEATS+1];
+                for(int i=0; i<n; i++) { int m = meta[i], p = m >>> 12 & 7; w[p][0]++; w[p][m >>> 16 & 7]++; }
+                return w;
+            }, (a, b) -> { for(int p=0; p<=SEATS; p++) for(int s=0; s<=SEATS; s++) a[p][s] += b[p][s]; return a; }, new long[SEATS+1][SEATS+1]);
+        }
+
+        // {game, game dengan shortcut, total aktivasi, maks per game, turn, turn dengan shortcut}
+        public long[] shortcutUsage() {
+            long[] g = scan(games, (lo, n) -> {
+                int[] links = ints(Col.LINKS, lo, n, new int[n]);
+                long any = 0, sum = 0, max = 0;
+                for(int i=0; i<n; i++) { int l = links[i]; sum += l; any += l > 0 ? 1 : 0; max = Math.max(max, l); }
+                return new long[]{n, any, sum, max, 0, 0};
+            }, Reader::sumMax, new long[6]);
+            long[] t = scan(turns, (lo, n) -> {
+                byte[] f = bytes(Col.FLAGS, lo, n, new byte[n]);
+                long c = 0;
+                for(int i=0; i<n; i++) c += f[i] >> 2 & 1;
+                return new long[]{0, 0, 0, 0, n, c};
+            }, Reader::sumMax, new long[6]);
+            return sumMax(g, t);
+        }
+
+        private static long[] sumMax(long[] a, long[] b) {
+            for(int i=0; i<a.length; i++) a[i] = i == 3 ? Math.max(a[i], b[i]) : a[i] + b[i];
+            return a;
+        }
+
+        // Distribusi skor akhir per nama pemain (semua kursi)
+        public Map<String, ScoreDist> scoresByName() {
+            Map<Integer, ScoreDist> byId = scan(games, (lo, n) -> {
+                int[] id = ints(Col.NAME, lo, n, new int[n*SEATS]), sc = ints(Col.SCORE, lo, n, new int[n*SEATS]);
+                Map<Integer, ScoreDist> m = new HashMap<>();
+                ScoreDist last = null; int lastId = Integer.MIN_VALUE;
+                for(int i=0; i<n*SEATS; i++) {
+                    int k = id[i];
+                    if(k < 0) continue;
+                    if(k != lastId) { last = m.computeIfAbsent(k, x -> new ScoreDist()); lastId = k; }
+                    last.add(sc[i]);
+                }
+                return m;
+            }, (a, b) -> { b.forEach((k, v) -> a.merge(k, v, ScoreDist::merge)); return a; }, new HashMap<>());
+            Map<String, ScoreDist> out = new TreeMap<>();
+            byId.forEach((k, v) -> out.merge(name(k), v, ScoreDist::merge));
+            return out;
+        }
+
+        @Override public void close() { Arrays.fill(seg, null); } // mapping dilepas oleh GC
+    }
+
+    // Hash terbuka long -> (game, total turn); tanpa objek per entri
+    public static final class LayoutLengths {
+        private long[] key, games, turns;
+        private boolean[] used;
+        private int size;
+
+        LayoutLengths(int cap) { int c = Integer.highestOneBit(Math.max(4, cap)*2); key = new long[c]; games = new long[c]; turns = new long[c]; used = new boolean[c]; }
+
+        void add(long k, long g, long t) {
+            int mask = key.length-1, i = (int)(k ^ k >>> 29) * 0x9E3779B1 & mask;
+            while(used[i] && key[i] != k) i = (i+1) & mask;
+            if(!used[i]) { used[i] = true; key[i] = k; size++; }
+            games[i] += g; turns[i] += t;
+            if(size*2 > key.length) grow();
+        }
+
+        private void grow() {
+            long[] k = key, g = games, t = turns; boolean[] u = used;
+            key = new long[k.length*2]; games = new long[k.length*2]; turns = new long[k.length*2]; used = new boolean[k.length*2]; size = 0;
+            for(int i=0; i<k.length; i++) if(u[i]) add(k[i], g[i], t[i]);
+        }
+
+        LayoutLengths merge(LayoutLengths o) {
+            if(o.size > size) return o.merge(this);
+            for(int i=0; i<o.key.length; i++) if(o.used[i]) add(o.key[i], o.games[i], o.turns[i]);
+            return this;
+        }
+
+        public int layouts() { return size; }
+
+        // n layout dengan game terbanyak: {kunci, game, total turn}
+        public long[][] top(int n) {
+            List<long[]> all = new ArrayList<>(size);
+            for(int i=0; i<key.length; i++) if(used[i]) all.add(new long[]{key[i], games[i], turns[i]});
+            all.sort((a, b) -> Long.compare(b[1], a[1]));
+            return all.subList(0, Math.min(n, all.size())).toArray(new long[0][]);
+        }
+    }
+
+    public static final class ScoreDist {
+        long count, sum, min = Long.MAX_VALUE, max;
+        final long[] hist = new long[SimStats.MAX_SCORE+1]; // skor >= MAX_SCORE masuk bucket terakhir
+
+        void add(int s) { count++; sum += s; min = Math.min(min, s); max = Math.max(max, s); hist[Math.min(s, SimStats.MAX_SCORE)]++; }
+
+        ScoreDist merge(ScoreDist o) {
+            count += o.count; sum += o.sum; min = Math.min(min, o.min); max = Math.max(max, o.max);
+            for(int i=0; i<hist.length; i++) hist[i] += o.hist[i];
+            return this;
+        }
+
+        public double mean() { return count == 0 ? 0 : (double)sum/count; }
+        public int percentile(double p) {
+            long target = (long)Math.ceil(count*p/100), seen = 0;
+            for(int i=0; i<hist.length; i++) if((seen += hist[i]) >= target) return i;
+            return hist.length-1;
+        }
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --archive <dir> <games> [players] [size] [gamesPerLayout]
+    public static void generate(String[] args) throws IOException {
+        Path dir = Paths.get(args[1]);
+        long games = Long.parseLong(args[2]);
+        int players = args.length>3 ? Integer.parseInt(args[3]) : 2, size = args.length>4 ? Integer.parseInt(args[4]) : BoardLayout.DEFAULT_SIZE;
+        int perLayout = args.length>5 ? Integer.parseInt(args[5]) : 1000;
+        String[] names = new String[players];
+        for(int i=0; i<players; i++) names[i] = "Bot " + (i+1);
+        long t0 = System.nanoTime();
+        try (Writer w = new Writer(dir)) {
+            SplittableRandom seeds = new SplittableRandom();
+            SeededGame sg = null;
+            for(long g=0; g<games; g++) {
+                if(g % perLayout == 0) sg = new SeededGame(seeds.nextLong(), size);
+                GameState gs = new GameState(sg.rules, players);
+                w.beginGame(sg.seed, size, false, sg.rules, names);
+                while(!gs.isOver()) w.turn(gs.step(sg.dice));
+                w.endGame(gs);
+            }
+            System.out.printf("archived %d games (%d total, %d turns) to %s in %.2fs%n", games, w.games(), w.turns(), dir, (System.nanoTime()-t0)/1e9);
+        }
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --query <dir>
+    public static void query(String[] args) throws IOException {
+        try (Reader r = new Reader(args.length>1 ? Paths.get(args[1]) : DIR)) {
+            System.out.printf("games=%d turns=%d threads=%d%n", r.games, r.turns, ForkJoinPool.commonPool().getParallelism());
+            long t0 = System.nanoTime();
+            LayoutLengths ll = r.lengthByLayout();
+            System.out.printf("-- length per layout (%d layouts, %.0f ms)%n", ll.layouts(), (System.nanoTime()-t0)/1e6);
+            for(long[] e : ll.top(10)) System.out.printf("layout %016x: games=%d avgTurns=%.2f%n", e[0], e[1], (double)e[2]/e[1]);
+            t0 = System.nanoTime();
+            long[][] w = r.winsBySeat();
+            System.out.printf("-- win rate by seat (%.0f ms)%n", (System.nanoTime()-t0)/1e6);
+            for(int p=1; p<=SEATS; p++) {
+                if(w[p][0] == 0) continue;
+                StringBuilder sb = new StringBuilder().append(p).append(" players (").append(w[p][0]).append(" games):");
+                for(int s=1; s<=p; s++) sb.append(String.format(" seat%d=%.4f", s, (double)w[p][s]/w[p][0]));
+                System.out.println(sb);
+            }
+            t0 = System.nanoTime();
+            long[] u = r.shortcutUsage();
+            System.out.printf("-- shortcut usage (%.0f ms)%n", (System.nanoTime()-t0)/1e6);
+            System.out.printf("activations=%d perGame=%.3f gamesWithShortcut=%.4f maxPerGame=%d perTurn=%.4f%n",
+                    u[2], (double)u[2]/Math.max(1, u[0]), (double)u[1]/Math.max(1, u[0]), u[3], (double)u[5]/Math.max(1, u[4]));
+            t0 = System.nanoTime();
+            Map<String, ScoreDist> sd = r.scoresByName();
+            System.out.printf("-- score by player (%.0f ms)%n", (System.nanoTime()-t0)/1e6);
+            sd.forEach((n, d) -> System.out.printf("%-16s games=%d mean=%.2f min=%d p50=%d p90=%d p99=%d max=%d%n",
+                    n, d.count, d.mean(), d.min, d.percentile(50), d.percentile(90), d.percentile(99), d.max));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package snakeladder.store;
+
+import snakeladder.metrics.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Skor terbaik disimpan sebagai snapshot (format .properties lama) + journal append-only.
+// saveScore hanya mengubah memori lalu mengantri; thread writer melakukan group commit (satu write + force
+// untuk semua entri yang menunggu) di bawah file lock, jadi aman untuk beberapa proses sekaligus.
+// Semua update berupa "ambil maksimum", sehingga replay dan merge antar proses tidak pernah kehilangan skor.
+public class HighScoreManager implements AutoCloseable {
+    private static final String FILE_NAME = "snake_highscores.properties";
+    private static final String JOURNAL_NAME = "snake_highscores.journal", LOCK_NAME = "snake_highscores.lock";
+    private static final long COMPACT_BYTES = 1 << 20;
+    private static final long RETRY_MS = 100, MAX_RETRY_MS = 5000;
+    // FileLock hanya mengunci antar proses; dua channel di JVM yang sama akan OverlappingFileLockException
+    private static final Object JVM_LOCK = new Object();
+    // Satu shutdown hook untuk semua instance yang masih terbuka
+    private static final Set<HighScoreManager> OPEN = ConcurrentHashMap.newKeySet();
+    static { Runtime.getRuntime().addShutdownHook(new Thread(() -> { for(HighScoreManager m : OPEN) m.flush(2000); }, "highscore-exit")); }
+    private final Path snapshot, journal, lockFile;
+    private final Map<String, Integer> scores = new ConcurrentHashMap<>();
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Object flushLock = new Object();
+    private long enqueued, committed;
+    private final Thread writer;
+
+    public HighScoreManager() { this(Paths.get(".")); }
+
+    public HighScoreManager(Path dir) {
+        snapshot = dir.resolve(FILE_NAME); journal = dir.resolve(JOURNAL_NAME); lockFile = dir.resolve(LOCK_NAME);
+        loadScores();
+        writer = new Thread(this::writeLoop, "highscore-writer");
+        writer.setDaemon(true); writer.start();
+        OPEN.add(this);
+    }
+
+    // Commit semua yang masih antri (maks 2 detik) lalu hentikan thread writer
+    @Override public void close() {
+        if(!OPEN.remove(this)) return;
+        flush(2000);
+        writer.interrupt();
+        try { writer.join(1000); } catch(InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+
+    // Di bawah lock yang sama dengan commit: tidak membaca snapshot yang sedang diganti atau journal yang sedang dikosongkan proses lain
+    private void loadScores() {
+        if(!Files.exists(snapshot)) System.out.println("Creating new highscore file.");
+        synchronized(JVM_LOCK) {
+            try (FileChannel lc = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                lc.lock(); // dilepas saat lc ditutup
+                replay(scores);
+            } catch(IOException e) {
+                System.err.println("Highscore lock tidak tersedia (" + e + "), dibaca tanpa lock");
+                replay(scores);
+            }
+        }
+        for(Map.Entry<String, Integer> e : scores.entrySet()) leaderboard.offerBest(e.getKey(), e.getValue());
+    }
+
+    // Snapshot lalu journal; baris journal yang rusak/terpotong (crash saat menulis) dilewati.
+    private void replay(Map<String, Integer> into) {
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(snapshot)) { p.load(in); } catch(IOException ignored) {}
+        for(String k : p.stringPropertyNames()) {
+            try { into.merge(k, Integer.parseInt(p.getProperty(k).trim()), Math::max); } catch(NumberFormatException ignored) {}
+        }
+        try (BufferedReader r = Files.newBufferedReader(journal, java.nio.charset.StandardCharsets.UTF_8)) {
+            for(String line; (line = r.readLine()) != null; ) {
+                int a = line.indexOf('\t'), b = line.lastIndexOf('\t');
+                if(a <= 0 || b <= a) continue;
+                String rec = line.substring(0, b);
+                if(!Long.toHexString(crc(rec)).equals(line.substring(b+1))) continue;
+                try { into.merge(rec.substring(0, a), Integer.parseInt(rec.substring(a+1)), Math::max); } catch(NumberFormatException ignored) {}
+            }
+        } catch(IOException ignored) {}
+    }
+
+    private static long crc(String s) {
+        java.util.zip.CRC32 c = new java.util.zip.CRC32();
+        c.update(s.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        return c.getValue();
+    }
+
+    // Kunci nama: huruf kecil, tanpa tab/CR/LF (pemisah field dan baris journal)
+    static String key(String name) { return name.toLowerCase().replace('\t', ' ').replace('\n', ' ').replace('\r', ' '); }
+
+    public int getScore(String name) {
+        return scores.getOrDefault(key(name), 0);
+    }
+
+    public Map<String, Integer> allScores() { return Collections.unmodifiableMap(scores); }
+    public Leaderboard leaderboard() { return leaderboard; }
+
+    // Riwayat skor per permainan (semua pemain), tidak mengubah skor terbaik. Hanya di memori: tidak dijurnal, hilang saat restart
+    public void recordResult(String name, int score) { leaderboard.record(key(name), score); }
+
+    public void saveScore(String name, int newScore) {
+        long t0 = System.nanoTime();
+        try { enqueueScore(name, newScore); } finally { Metrics.SAVE_SCORE.record(System.nanoTime()-t0); }
+    }
+
+    private void enqueueScore(String name, int newScore) {
+        String key = key(name);
+        int[] improved = {0};
+        scores.compute(key, (k, old) -> { if(old == null || newScore > old) { improved[0] = 1; return newScore; } return old; });
+        leaderboard.offerBest(key, newScore);
+        if(improved[0] == 0) return;
+        String rec = key + "\t" + newScore;
+        synchronized(flushLock) { enqueued++; }
+        queue.add(rec + "\t" + Long.toHexString(crc(rec)) + "\n");
+    }
+
+    // Tunggu sampai semua yang sudah diantrikan ter-commit (dipakai saat exit dan benchmark)
+    public boolean flush(long timeoutMs) {
+        long deadline = System.currentTimeMillis()+timeoutMs;
+        synchronized(flushLock) {
+            long target = enqueued;
+            while(committed < target) {
+                long left = deadline-System.currentTimeMillis();
+                if(left <= 0) return false;
+                try { flushLock.wait(left); } catch(InterruptedException e) { Thread.currentThread().interrupt(); return false; }
+            }
+        }
+        return true;
+    }
+
+    // Commit gagal: baris tetap di batch dan dicoba lagi dengan backoff; committed tidak maju sehingga
+    // flush() tidak pernah melapor sukses untuk skor yang belum ada di disk. Baris yang terlanjur tertulis
+    // sebagian/dua kali aman karena replay mengambil maksimum.
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        long backoff = 0;
+        while(true) {
+            try {
+                if(batch.isEmpty()) batch.add(queue.take());
+                else Thread.sleep(backoff);
+            } catch(InterruptedException e) { return; }
+            queue.drainTo(batch);
+            try { commit(batch); }
+            catch(IOException e) {
+                if(backoff == 0) e.printStackTrace();
+                backoff = Math.min(MAX_RETRY_MS, Math.max(RETRY_MS, backoff*2));
+                continue;
+            }
+            backoff = 0;
+            synchronized(flushLock) { committed += batch.size(); flushLock.notifyAll(); }
+            batch.clear();
+        }
+    }
+
+    private void commit(List<String> batch) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(String r : batch) sb.append(r);
+        ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        synchronized(JVM_LOCK) {
+            try (FileChannel lc = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileChannel jc = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                lc.lock(); // dilepas saat lc ditutup
+                while(buf.hasRemaining()) jc.write(buf);
+                jc.force(false);
+                if(jc.size() > COMPACT_BYTES) compact(jc);
+            }
+        }
+    }
+
+    // Dipanggil dengan lock dipegang: gabungkan isi disk (termasuk tulisan proses lain) dengan memori,
+    // tulis snapshot baru lewat file temp + fsync + rename atomik, lalu kosongkan journal.
+    private void compact(FileChannel jc) throws IOException {
+        Map<String, Integer> merged = new HashMap<>(scores);
+        replay(merged);
+        for(Map.Entry<String, Integer> e : merged.entrySet()) { scores.merge(e.getKey(), e.getValue(), Math::max); leaderboard.offerBest(e.getKey(), e.getValue()); }
+        Properties p = new Properties();
+        for(Map.Entry<String, Integer> e : merged.entrySet()) p.setProperty(e.getKey(), String.valueOf(e.getValue()));
+        Path tmp = snapshot.resolveSibling(FILE_NAME + ".tmp");
+        try (FileChannel tc = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            p.store(Channels.newOutputStream(tc), "Snake Game High Scores");
+            tc.force(true);
+        }
+        Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        jc.truncate(0);
+        jc.force(true);
+    }
+}
@@ -0,0 +1,18 @@
+package snakeladder.store;
+
+import java.util.*;
+
+// Menyimpan lemparan permainan terakhir yang selesai, untuk diputar ulang di GUI
+public class LastGameCollector implements ReplayVisitor {
+    public long seed; public int size, players; public boolean fair;
+    public int[] rolls = new int[0]; // signed: + hijau, - merah
+    private long curSeed; private int curSize, curPlayers, n; private boolean curFair;
+    private int[] cur = new int[256];
+
+    @Override public void gameStart(long seed, int size, int players, boolean fair) { curSeed = seed; curSize = size; curPlayers = players; curFair = fair; n = 0; }
+    @Override public void turn(int pid, boolean green, int val) {
+        if(n == cur.length) cur = Arrays.copyOf(cur, n*2);
+        cur[n++] = green ? val : -val;
+    }
+    @Override public void gameEnd(int winner) { seed = curSeed; size = curSize; players = curPlayers; fair = curFair; rolls = Arrays.copyOf(cur, n); }
+}
@@ -0,0 +1,186 @@
+package snakeladder.store;
+
+import java.util.*;
+import java.util.List;
+
+// Leaderboard global: skip list berindeks (span per level) di atas array primitif.
+// Kunci = (skor menurun, id nama), jadi top-N, rank pemain dan halaman ke-K semuanya O(log n).
+// Riwayat skor per pemain disimpan sebagai linked list di dua int[] bersama (8 byte per entri), hanya di memori.
+public class Leaderboard {
+    private static final int MAX_LEVEL = 32, NIL = -1, HEAD = 0;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[16];
+    private int[] nodeOf = new int[16], lastHist = new int[16];
+    private int nameCount;
+    // node skip list
+    private long[] key = new long[16];
+    private int[] nameOf = new int[16], base = new int[16];
+    private byte[] height = new byte[16];
+    private int nodeCount;
+    private int[] next = new int[64], span = new int[64];
+    private int slotCount;
+    private final int[][] freeByHeight = new int[MAX_LEVEL+1][];
+    private final int[] freeCount = new int[MAX_LEVEL+1];
+    private int level = 1, length;
+    // riwayat
+    private int[] histScore = new int[64], histPrev = new int[64];
+    private int histCount;
+    private final SplittableRandom rnd = new SplittableRandom(0x5EED);
+    private final int[] update = new int[MAX_LEVEL], rank = new int[MAX_LEVEL];
+
+    public Leaderboard() {
+        newNode(MAX_LEVEL, Long.MIN_VALUE, -1);
+        for(int i=0; i<MAX_LEVEL; i++) { next[base[HEAD]+i] = NIL; span[base[HEAD]+i] = 0; }
+    }
+
+    public static class Entry {
+        public final int rank, score; public final String name;
+        Entry(int rank, String name, int score) { this.rank = rank; this.name = name; this.score = score; }
+    }
+
+    public synchronized int size() { return length; }
+
+    // Catat skor satu permainan ke riwayat saja; ranking hanya berubah lewat offerBest (skor yang juga dijurnal)
+    public synchronized void record(String name, int score) {
+        int id = idOf(name);
+        if(histCount == histScore.length) { histScore = Arrays.copyOf(histScore, histCount*2); histPrev = Arrays.copyOf(histPrev, histCount*2); }
+        histScore[histCount] = score; histPrev[histCount] = lastHist[id]; lastHist[id] = histCount++;
+    }
+
+    // Skor terbaik (snapshot, jurnal, saveScore) tanpa menambah riwayat
+    public synchronized void offerBest(String name, int score) { offerBest(idOf(name), score); }
+
+    private void offerBest(int id, int score) {
+        int n = nodeOf[id];
+        if(n != NIL && scoreOf(key[n]) >= score) return;
+        if(n != NIL) delete(key[n]);
+        nodeOf[id] = insert(keyOf(score, id), id);
+    }
+
+    public synchronized int rankOf(String name) {
+        Integer id = ids.get(name.toLowerCase());
+        if(id == null || nodeOf[id] == NIL) return 0;
+        long k = key[nodeOf[id]];
+        int x = HEAD, r = 0;
+        for(int i=level-1; i>=0; i--) {
+            while(next[base[x]+i] != NIL && key[next[base[x]+i]] <= k) { r += span[base[x]+i]; x = next[base[x]+i]; }
+            if(x != HEAD && key[x] == k) return r;
+        }
+        return 0;
+    }
+
+    public synchronized int bestOf(String name) {
+        Integer id = ids.get(name.toLowerCase());
+        return id == null || nodeOf[id] == NIL ? 0 : scoreOf(key[nodeOf[id]]);
+    }
+
+    public synchronized int[] history(String name) {
+        Integer id = ids.get(name.toLowerCase());
+        if(id == null) return new int[0];
+        int n = 0;
+        for(int h=lastHist[id]; h!=NIL; h=histPrev[h]) n++;
+        int[] out = new int[n];
+        for(int h=lastHist[id]; h!=NIL; h=histPrev[h]) out[--n] = histScore[h];
+        return out;
+    }
+
+    public List<Entry> top(int n) { return range(1, n); }
+    public List<Entry> page(int k, int pageSize) { return range(k*pageSize+1, pageSize); }
+
+    // Mulai dari rank 'from' (1-based), turun lewat span lalu jalan di level 0
+    public synchronized List<Entry> range(int from, int count) {
+        List<Entry> out = new ArrayList<>();
+        if(from < 1 || from > length) return out;
+        int x = HEAD, traversed = 0;
+        for(int i=level-1; i>=0; i--)
+            while(next[base[x]+i] != NIL && traversed+span[base[x]+i] <= from) { traversed += span[base[x]+i]; x = next[base[x]+i]; }
+        for(int r=from; x!=NIL && out.size()<count; r++, x=next[base[x]]) out.add(new Entry(r, names[nameOf[x]], scoreOf(key[x])));
+        return out;
+    }
+
+    private static long keyOf(int score, int id) { return ((long)(Integer.MAX_VALUE-score) << 32) | id; }
+    private static int scoreOf(long k) { return Integer.MAX_VALUE-(int)(k >>> 32); }
+
+    private int idOf(String name) {
+        String n = name.toLowerCase();
+        Integer id = ids.get(n);
+        if(id != null) return id;
+        if(nameCount == names.length) {
+            names = Arrays.copyOf(names, nameCount*2); nodeOf = Arrays.copyOf(nodeOf, nameCount*2); lastHist = Arrays.copyOf(lastHist, nameCount*2);
+        }
+        names[nameCount] = n; nodeOf[nameCount] = NIL; lastHist[nameCount] = NIL;
+        ids.put(n, nameCount);
+        return nameCount++;
+    }
+
+    private int randomLevel() {
+        int l = 1;
+        while(l < MAX_LEVEL && (rnd.nextInt() & 3) == 0) l++; // p = 1/4
+        return l;
+    }
+
+    private int newNode(int h, long k, int nameId) {
+        int n;
+        if(freeCount[h] > 0) n = freeByHeight[h][--freeCount[h]];
+        else {
+            if(nodeCount == key.length) {
+                int c = nodeCount*2;
+                key = Arrays.copyOf(key, c); nameOf = Arrays.copyOf(nameOf, c); base = Arrays.copyOf(base, c); height = Arrays.copyOf(height, c);
+            }
+            n = nodeCount++;
+            while(slotCount+h > next.length) { next = Arrays.copyOf(next, next.length*2); span = Arrays.copyOf(span, span.length*2); }
+            base[n] = slotCount; slotCount += h; height[n] = (byte)h;
+        }
+        key[n] = k; nameOf[n] = nameId;
+        return n;
+    }
+
+    private void freeNode(int n) {
+        int h = height[n];
+        if(freeByHeight[h] == null) freeByHeight[h] = new int[8];
+        if(freeCount[h] == freeByHeight[h].length) freeByHeight[h] = Arrays.copyOf(freeByHeight[h], freeCount[h]*2);
+        freeByHeight[h][freeCount[h]++] = n;
+    }
+
+    private int insert(long k, int nameId) {
+        int x = HEAD;
+        for(int i=level-1; i>=0; i--) {
+            rank[i] = i == level-1 ? 0 : rank[i+1];
+            while(next[base[x]+i] != NIL && key[next[base[x]+i]] < k) { rank[i] += span[base[x]+i]; x = next[base[x]+i]; }
+            update[i] = x;
+        }
+        int lvl = randomLevel();
+        if(lvl > level) {
+            for(int i=level; i<lvl; i++) { rank[i] = 0; update[i] = HEAD; span[base[HEAD]+i] = length; }
+            level = lvl;
+        }
+        x = newNode(lvl, k, nameId);
+        for(int i=0; i<lvl; i++) {
+            int u = base[update[i]]+i;
+            next[base[x]+i] = next[u]; next[u] = x;
+            span[base[x]+i] = span[u]-(rank[0]-rank[i]);
+            span[u] = rank[0]-rank[i]+1;
+        }
+        for(int i=lvl; i<level; i++) span[base[update[i]]+i]++;
+        length++;
+        return x;
+    }
+
+    private void delete(long k) {
+        int x = HEAD;
+        for(int i=level-1; i>=0; i--) {
+            while(next[base[x]+i] != NIL && key[next[base[x]+i]] < k) x = next[base[x]+i];
+            update[i] = x;
+        }
+        x = next[base[x]];
+        if(x == NIL || key[x] != k) return;
+        for(int i=0; i<level; i++) {
+            int u = base[update[i]]+i;
+            if(next[u] == x) { span[u] += span[base[x]+i]-1; next[u] = next[base[x]+i]; }
+            else span[u]--;
+        }
+        while(level > 1 && next[base[HEAD]+level-1] == NIL) level--;
+        length--;
+        freeNode(x);
+    }
+}
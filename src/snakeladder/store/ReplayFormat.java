@@ -0,0 +1,6 @@
+package snakeladder.store;
+
+final class ReplayFormat {
+    static final int MAGIC = 0x534E4B52, VERSION = 1; // "SNKR"
+    static final int GAME = 1, TURN = 2, MOVE = 3, LINK = 4, DOUBLE = 5, END = 6, FREE = 7;
+}
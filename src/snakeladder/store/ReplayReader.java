@@ -0,0 +1,61 @@
+package snakeladder.store;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+// Pembaca streaming: satu direct buffer yang di-compact/refill, varint dibaca langsung tanpa alokasi per event.
+public class ReplayReader implements Closeable {
+    private final FileChannel ch;
+    private final ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20);
+    private boolean eof;
+
+    public ReplayReader(Path file) throws IOException {
+        ch = FileChannel.open(file, StandardOpenOption.READ);
+        buf.limit(0);
+        if(!ensure(5) || buf.getInt() != ReplayFormat.MAGIC || buf.get() != ReplayFormat.VERSION)
+            throw new IOException("Not a replay file: " + file);
+    }
+
+    private boolean ensure(int n) throws IOException {
+        while(buf.remaining() < n && !eof) {
+            buf.compact();
+            if(ch.read(buf) < 0) eof = true;
+            buf.flip();
+        }
+        return buf.remaining() >= n;
+    }
+
+    private long varint() {
+        long v = 0; int shift = 0; byte b;
+        do { b = buf.get(); v |= (long)(b & 0x7F) << shift; shift += 7; } while(b < 0);
+        return v;
+    }
+
+    // Mengembalikan jumlah permainan yang dimulai; ekor file yang terpotong diabaikan
+    public long readAll(ReplayVisitor v) throws IOException {
+        long games = 0;
+        try {
+            while(true) {
+                ensure(32);
+                if(!buf.hasRemaining()) break;
+                long ev = varint();
+                int type = (int)(ev & 7), payload = (int)(ev >>> 3);
+                switch(type) {
+                    case ReplayFormat.GAME: { long seed = buf.getLong(); int size = (int)varint(); v.gameStart(seed, size, (int)varint(), (payload & 1) != 0); games++; break; }
+                    case ReplayFormat.TURN: v.turn((payload >>> 4)+1, (payload & 8) != 0, (payload & 7)+1); break;
+                    case ReplayFormat.MOVE: v.move(payload); break;
+                    case ReplayFormat.LINK: v.link(payload); break;
+                    case ReplayFormat.DOUBLE: v.doubleTurn(); break;
+                    case ReplayFormat.END: v.gameEnd(payload); break;
+                    case ReplayFormat.FREE: v.diceFree(); break;
+                    default: throw new IOException("Bad replay event type " + type);
+                }
+            }
+        } catch(java.nio.BufferUnderflowException torn) { /* tulisan terakhir tidak lengkap */ }
+        return games;
+    }
+
+    @Override public void close() throws IOException { ch.close(); }
+}
@@ -0,0 +1,38 @@
+package snakeladder.store;
+
+import snakeladder.engine.*;
+
+// Memutar ulang tanpa GUI: bangun ulang permainan dari seed, terapkan lemparan yang direkam,
+// dan cek bahwa dadu dari seed, langkah, shortcut, double turn dan pemenang semuanya cocok.
+// Sesudah event FREE (cabang timeline) dadu tidak dicek lagi, tapi giliran, langkah dan pemenang tetap dicek.
+public class ReplayVerifier implements ReplayVisitor {
+    public long games, turns, mismatches, freeGames;
+    private boolean free;
+    private GameState game;
+    private SeededGame setup;
+    private Turn last;
+
+    @Override public void gameStart(long seed, int size, int players, boolean fair) {
+        setup = new SeededGame(seed, size, players, fair);
+        game = new GameState(setup.rules, players);
+        games++; free = false;
+    }
+
+    @Override public void turn(int pid, boolean green, int val) {
+        boolean bad = game.currentPlayer() != pid;
+        if(!free) {
+            boolean g = setup.dice.nextDouble() < GameRules.GREEN_CHANCE;
+            int v = setup.dice.nextInt(GameRules.DICE_SIDES)+1;
+            bad |= g != green || v != val;
+        }
+        if(bad) mismatches++;
+        last = game.apply(green, val);
+        turns++;
+    }
+
+    @Override public void move(int to) { if(last.stop != to) mismatches++; }
+    @Override public void link(int to) { if(last.link != to) mismatches++; }
+    @Override public void diceFree() { if(!free) freeGames++; free = true; }
+    @Override public void doubleTurn() { if(!last.doubleTurn) mismatches++; }
+    @Override public void gameEnd(int winner) { if(game.winner() != winner) mismatches++; }
+}
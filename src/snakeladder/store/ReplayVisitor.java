@@ -0,0 +1,19 @@
+package snakeladder.store;
+
+// Format file replay: "SNKR" + versi, lalu per permainan sebuah GAME (payload bit 0 = layout fair; seed 8 byte, ukuran, pemain)
+// diikuti event varint. Setiap event = varint (payload << 3 | tipe):
+//   TURN   payload = (pid-1) << 4 | hijau << 3 | (nilai-1)
+//   MOVE   payload = kotak berhenti (sebelum shortcut)
+//   LINK   payload = tujuan shortcut
+//   DOUBLE payload = 0
+//   END    payload = pemenang
+//   FREE   payload = 0: lemparan sesudahnya bukan lagi urutan dadu dari seed (cabang timeline di GUI)
+public interface ReplayVisitor {
+    void gameStart(long seed, int size, int players, boolean fair);
+    void turn(int pid, boolean green, int val);
+    default void move(int to) {}
+    default void link(int to) {}
+    default void doubleTurn() {}
+    default void diceFree() {}
+    void gameEnd(int winner);
+}
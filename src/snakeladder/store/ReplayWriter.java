@@ -0,0 +1,52 @@
+package snakeladder.store;
+
+import snakeladder.engine.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+public class ReplayWriter implements Closeable {
+    private final FileChannel ch;
+    private final ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16);
+
+    public ReplayWriter(Path file) throws IOException {
+        ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if(ch.size() == 0) { buf.putInt(ReplayFormat.MAGIC); buf.put((byte)ReplayFormat.VERSION); }
+    }
+
+    public void beginGame(long seed, int size, int players, boolean fair) throws IOException {
+        room(32);
+        event(ReplayFormat.GAME, fair ? 1 : 0); buf.putLong(seed); putVarint(size); putVarint(players);
+    }
+
+    public void turn(Turn t) throws IOException {
+        room(32);
+        event(ReplayFormat.TURN, (t.pid-1) << 4 | (t.green ? 8 : 0) | (t.val-1));
+        event(ReplayFormat.MOVE, t.stop);
+        if(t.link != -1) event(ReplayFormat.LINK, t.link);
+        if(t.doubleTurn) event(ReplayFormat.DOUBLE, 0);
+        if(t.won) { event(ReplayFormat.END, t.pid); flush(); }
+    }
+
+    // Setelah ini verifier tidak lagi mencocokkan lemparan dengan dadu dari seed
+    public void diceFree() throws IOException { room(8); event(ReplayFormat.FREE, 0); }
+
+    private void event(int type, int payload) { putVarint((long)payload << 3 | type); }
+
+    private void putVarint(long v) {
+        while((v & ~0x7FL) != 0) { buf.put((byte)((v & 0x7F) | 0x80)); v >>>= 7; }
+        buf.put((byte)v);
+    }
+
+    private void room(int n) throws IOException { if(buf.remaining() < n) flush(); }
+
+    public void flush() throws IOException {
+        buf.flip();
+        while(buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+    }
+
+    @Override public void close() throws IOException { flush(); ch.close(); }
+}
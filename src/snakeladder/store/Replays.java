@@ -0,0 +1,46 @@
+package snakeladder.store;
+
+import snakeladder.engine.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+public final class Replays {
+    // java snakeladder.SnakeDijkstraGUI --record <file> <games> [players] [size]
+    public static void record(String[] args) throws IOException {
+        Path file = Paths.get(args[1]);
+        long games = Long.parseLong(args[2]);
+        int players = args.length>3 ? Integer.parseInt(args[3]) : 2, size = args.length>4 ? Integer.parseInt(args[4]) : BoardLayout.DEFAULT_SIZE;
+        long t0 = System.nanoTime();
+        try (ReplayWriter w = new ReplayWriter(file)) {
+            SplittableRandom seeds = new SplittableRandom();
+            for(long g=0; g<games; g++) {
+                long seed = seeds.nextLong();
+                SeededGame sg = new SeededGame(seed, size);
+                GameState gs = new GameState(sg.rules, players);
+                w.beginGame(seed, size, players, false);
+                while(!gs.isOver()) w.turn(gs.step(sg.dice));
+            }
+        }
+        System.out.printf("recorded %d games to %s (%.1f MB) in %.2fs%n", games, file, Files.size(file)/1e6, (System.nanoTime()-t0)/1e9);
+    }
+
+    // java snakeladder.SnakeDijkstraGUI --replay <file> [--verify]
+    public static void replay(String[] args) throws IOException {
+        Path file = Paths.get(args[1]);
+        boolean verify = args.length>2 && args[2].equals("--verify");
+        long t0 = System.nanoTime();
+        long[] count = new long[2];
+        ReplayVisitor v = verify ? new ReplayVerifier() : new ReplayVisitor() {
+            @Override public void gameStart(long seed, int size, int players, boolean fair) { count[0]++; }
+            @Override public void turn(int pid, boolean green, int val) { count[1]++; }
+            @Override public void gameEnd(int winner) {}
+        };
+        try (ReplayReader r = new ReplayReader(file)) { r.readAll(v); }
+        double sec = (System.nanoTime()-t0)/1e9;
+        if(verify) { ReplayVerifier rv = (ReplayVerifier)v; count[0] = rv.games; count[1] = rv.turns; }
+        System.out.printf("games=%d turns=%d %.2fs (%.0f MB/s)%s%n", count[0], count[1], sec, Files.size(file)/1e6/sec,
+                verify ? " mismatches=" + ((ReplayVerifier)v).mismatches + " branched=" + ((ReplayVerifier)v).freeGames : "");
+    }
+}
@@ -0,0 +1,41 @@
+package snakeladder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.border.TitledBorder;
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Komponen yang dibuat sebelum font selesai dimuat harus pindah ke font baru dengan ukuran dan gaya yang sama.
+class AppFontsTest {
+    private final Font regular = AppFonts.REGULAR, bold = AppFonts.BOLD, mono = AppFonts.MONO;
+
+    @AfterEach void restore() { AppFonts.REGULAR = regular; AppFonts.BOLD = bold; AppFonts.MONO = mono; }
+
+    @Test
+    void fallbackFontsAreSwappedKeepingSize() {
+        JPanel root = new JPanel(), inner = new JPanel();
+        JLabel title = new JLabel("t"); title.setFont(AppFonts.BOLD.deriveFont(48f));
+        JLabel body = new JLabel("b"); body.setFont(AppFonts.REGULAR.deriveFont(12f));
+        JTextArea log = new JTextArea(); log.setFont(AppFonts.MONO.deriveFont(11f));
+        JLabel other = new JLabel("o"); Font serif = new Font(Font.SERIF, Font.ITALIC, 20); other.setFont(serif);
+        inner.setBorder(BorderFactory.createTitledBorder(null, "Log", 0, 0, AppFonts.BOLD.deriveFont(12f), Color.WHITE));
+        inner.add(body); inner.add(log); root.add(title); root.add(inner); root.add(other);
+
+        // seolah load() baru selesai
+        AppFonts.REGULAR = new Font(Font.SANS_SERIF, Font.PLAIN, 14);
+        AppFonts.BOLD = new Font(Font.SANS_SERIF, Font.BOLD, 14);
+        AppFonts.MONO = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+        AppFonts.swapFallbacks(root);
+
+        assertEquals(Font.SANS_SERIF, title.getFont().getName()); assertTrue(title.getFont().isBold()); assertEquals(48f, title.getFont().getSize2D());
+        assertEquals(Font.SANS_SERIF, body.getFont().getName()); assertFalse(body.getFont().isBold()); assertEquals(12f, body.getFont().getSize2D());
+        assertEquals(Font.MONOSPACED, log.getFont().getName()); assertEquals(11f, log.getFont().getSize2D());
+        assertSame(serif, other.getFont());
+        Font tf = ((TitledBorder)inner.getBorder()).getTitleFont();
+        assertEquals(Font.SANS_SERIF, tf.getName()); assertTrue(tf.isBold()); assertEquals(12f, tf.getSize2D());
+    }
+}
@@ -0,0 +1,84 @@
+package snakeladder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Ring hanya menyimpan baris terbaru, file spill menyimpan semuanya; restore tidak menulis ulang dan gagal tulis mematikan spill.
+class TurnLogTest {
+    @TempDir Path dir;
+
+    static void play(TurnLog log, int from, int to) {
+        for(int t=from; t<=to; t++) log.add(1 + t % 2, t, t+1, t % 7 == 0 ? t+5 : -1, t % 3, t % 5 == 0, false);
+    }
+
+    @Test
+    void ringEvictsOldestButSearchSeesWholeSpillFile() throws IOException {
+        TurnLog log = new TurnLog(dir.resolve("turns.log"));
+        log.startGame("Game", 0xabc, new String[]{"Alice", "Bob"});
+        int extra = 10;
+        play(log, 1, TurnLog.CAPACITY + extra);
+        assertEquals(TurnLog.CAPACITY, log.getSize());
+        assertTrue(log.getElementAt(0).startsWith("#" + (extra+1) + " "), log.getElementAt(0)); // header + turn 1..extra tergeser
+        assertTrue(log.getElementAt(TurnLog.CAPACITY-1).startsWith("#" + (TurnLog.CAPACITY + extra) + " "));
+
+        assertEquals(List.of("1: Game (seed abc)"), log.search("(seed abc)", 10));
+        assertEquals(List.of("2: #1 Bob: 1 -> 2 [+1 pts]"), log.search("#1 bob:", 10)); // sudah keluar dari ring
+        assertEquals(List.of("8: #7 Bob: 7 -> 8 (LINK -> 12) [+1 pts]"), log.search("(link -> 12)", 10));
+        assertEquals(3, log.search("alice", 3).size());
+        assertEquals(TurnLog.CAPACITY + extra + 1, Files.readAllLines(dir.resolve("turns.log")).size());
+    }
+
+    @Test
+    void restoreRefillsRingWithoutRewritingSpill() throws IOException {
+        Path file = dir.resolve("turns.log");
+        TurnLog log = new TurnLog(file);
+        log.startGame("Game", 1, new String[]{"Alice", "Bob"});
+        play(log, 1, 20);
+        log.flush();
+        long lines = Files.readAllLines(file).size();
+
+        int[] removed = {0}, added = {0};
+        log.addListDataListener(new ListDataListener() {
+            @Override public void intervalAdded(ListDataEvent e) { added[0]++; }
+            @Override public void intervalRemoved(ListDataEvent e) { removed[0]++; }
+            @Override public void contentsChanged(ListDataEvent e) {}
+        });
+        log.beginRestore(1);
+        play(log, 1, 8);
+        log.endRestore();
+        assertEquals(1, removed[0]);
+        assertEquals(1, added[0]);
+        assertEquals(9, log.getSize());
+        assertEquals("Game (seed 1)", log.getElementAt(0));
+        assertTrue(log.getElementAt(8).startsWith("#8 "));
+        log.flush();
+        assertEquals(lines, Files.readAllLines(file).size());
+
+        play(log, 9, 9); // giliran baru setelah restore kembali ditulis, di samping #9 yang lama
+        assertEquals(2, log.search("#9 bob:", 10).size());
+        assertEquals(lines + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void failedSpillDisablesLogWithoutStoppingTheGame() throws IOException {
+        Path file = dir.resolve("turns.log");
+        Files.createDirectory(file); // tidak bisa dibuka sebagai file
+        TurnLog log = new TurnLog(file);
+        log.startGame("Game", 2, new String[]{"Alice", "Bob"});
+        assertFalse(log.spillEnabled());
+        Files.delete(file);
+        play(log, 1, 30);
+        log.flush();
+        assertEquals(31, log.getSize());
+        assertFalse(Files.exists(file)); // tidak dicoba lagi setelah gagal pertama
+        assertTrue(log.search("alice", 10).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Update shortcut inkremental harus menghasilkan graf yang sama dengan membangun ulang dari nol.
+class BoardGraphTest {
+
+    static void assertSameGraph(BoardGraph inc, BoardGraph fresh, boolean allPairs, String ctx) {
+        int n = fresh.n;
+        for(int s=1; s<=n; s++) for(int i=0; i<GameRules.OUTCOMES; i++)
+            assertEquals(fresh.rules().landing(s, i), inc.rules().landing(s, i), ctx+" landing "+s+"/"+i);
+        for(int s=1; s<=n; s++) assertEquals(fresh.rollsToGoal(s), inc.rollsToGoal(s), ctx+" toGoal "+s);
+        assertEquals(fresh.difficulty(), inc.difficulty(), ctx);
+        if(allPairs) for(int s=1; s<=n; s++) for(int t=1; t<=n; t++)
+            assertEquals(fresh.distance(s, t), inc.distance(s, t), ctx+" dist "+s+"->"+t);
+    }
+
+    static void editAndCompare(int size, BoardGraph.Metric metric, long seed, int edits, boolean allPairs) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        int goal = size*size;
+        GameRules base = new GameRules(goal, GameRules.randomPoints(rng, goal), GameRules.genShortcuts(rng, goal, BoardLayout.shortcutCount(goal)));
+        Map<Integer, Integer> sc = new HashMap<>(base.shortcuts()), orig = new HashMap<>(sc);
+        BoardGraph inc = new BoardGraph(base, metric);
+        if(allPairs) inc.distance(1, goal); // paksa all-pairs dibangun supaya ikut di-update
+        for(int e=0; e<edits; e++) {
+            String ctx = "size="+size+" "+metric+" seed="+seed+" edit "+e;
+            if(!sc.isEmpty() && rng.nextInt(3) == 0) {
+                int from = new ArrayList<>(new TreeMap<>(sc).keySet()).get(rng.nextInt(sc.size()));
+                sc.remove(from); inc.removeShortcut(from);
+            } else {
+                int from = rng.nextInt(goal-2)+2, to = rng.nextInt(goal-1)+1;
+                if(to == from) continue;
+                sc.put(from, to); inc.addShortcut(from, to);
+            }
+            assertSameGraph(inc, new BoardGraph(base.withShortcuts(sc), metric), allPairs, ctx);
+        }
+        assertEquals(orig, base.shortcuts(), "rules asal tidak boleh ikut berubah");
+    }
+
+    @Test
+    void incrementalMatchesFreshBuild() {
+        for(BoardGraph.Metric m : BoardGraph.Metric.values())
+            for(long seed=0; seed<20; seed++) editAndCompare(8, m, seed, 40, true);
+    }
+
+    @Test
+    void incrementalMatchesFreshBuildOnLargeBoard() {
+        for(BoardGraph.Metric m : BoardGraph.Metric.values())
+            for(long seed=0; seed<3; seed++) editAndCompare(40, m, seed, 60, false);
+    }
+
+    @Test
+    void constructorLeavesSharedRulesUntouched() {
+        SplittableRandom rng = new SplittableRandom(7);
+        GameRules rules = new GameRules(64, GameRules.randomPoints(rng, 64), GameRules.genShortcuts(rng, 64, 5));
+        Map<Integer, Integer> before = new HashMap<>(rules.shortcuts());
+        int[] land = new int[65*GameRules.OUTCOMES];
+        for(int s=1; s<=64; s++) for(int i=0; i<GameRules.OUTCOMES; i++) land[s*GameRules.OUTCOMES+i] = rules.landing(s, i);
+        BoardGraph g = new BoardGraph(rules, BoardGraph.Metric.ROLLS);
+        g.addShortcut(3, 60); g.removeShortcut(before.keySet().iterator().next());
+        assertEquals(before, rules.shortcuts());
+        for(int s=1; s<=64; s++) for(int i=0; i<GameRules.OUTCOMES; i++) assertEquals(land[s*GameRules.OUTCOMES+i], rules.landing(s, i));
+    }
+
+    @Test
+    void allPairsIsBuiltLazily() {
+        SplittableRandom rng = new SplittableRandom(1);
+        GameRules rules = new GameRules(64, GameRules.randomPoints(rng, 64), GameRules.genShortcuts(rng, 64, 5));
+        BoardGraph g = new BoardGraph(rules, BoardGraph.Metric.ROLLS);
+        g.addShortcut(10, 50); // sebelum all-pairs ada
+        BoardGraph fresh = new BoardGraph(g.rules(), BoardGraph.Metric.ROLLS);
+        assertSameGraph(g, fresh, true, "lazy");
+        assertEquals(g.rollsToGoal(1), g.distance(1, 64));
+    }
+}
@@ -0,0 +1,66 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Layout hasil search harus memenuhi batasannya: jumlah shortcut, ujung yang valid, panjang target dan keuntungan pemain pertama.
+class LayoutGeneratorTest {
+
+    static void assertValidLayout(GameRules base, LayoutGenerator.Constraints c, LayoutGenerator.Result r) {
+        assertEquals(c.shortcuts, r.shortcuts.size());
+        Set<Integer> ends = new HashSet<>();
+        r.shortcuts.forEach((from, to) -> {
+            assertTrue(from >= 2 && from < to && to < base.goal, from + "->" + to);
+            assertTrue(ends.add(from) && ends.add(to), "ujung dipakai dua kali: " + from + "->" + to);
+        });
+        LayoutGenerator.Evaluation e = LayoutGenerator.evaluate(base.withShortcuts(r.shortcuts), c.players);
+        assertEquals(e.expectedTurns, r.eval.expectedTurns, 1e-9);
+        assertEquals(e.firstPlayerAdvantage, r.eval.firstPlayerAdvantage, 1e-12);
+        assertEquals(r.eval.firstPlayerAdvantage <= c.maxAdvantage, r.feasible);
+        double sum = 0;
+        for(int s=1; s<=c.players; s++) sum += r.eval.winRate[s];
+        assertEquals(1, sum, 1e-6);
+    }
+
+    @Test
+    void defaultConstraintsAreMet() {
+        for(int players=2; players<=4; players++) {
+            GameRules base = new SeededGame(players, 8).rules.withShortcuts(Map.of());
+            LayoutGenerator.Constraints c = LayoutGenerator.Constraints.defaults(base, players, 9);
+            LayoutGenerator.Result r = LayoutGenerator.search(base, c, 17, SeededGame.FAIR_CANDIDATES, 0);
+            assertValidLayout(base, c, r);
+            assertEquals(SeededGame.FAIR_CANDIDATES, r.candidates);
+            assertTrue(r.feasible, "players " + players + " advantage " + r.eval.firstPlayerAdvantage);
+            assertEquals(c.targetTurns, r.eval.expectedTurns, c.targetTurns*0.05, "players " + players);
+        }
+    }
+
+    @Test
+    void explicitTargetIsApproachedAndSearchIsDeterministic() {
+        GameRules base = new SeededGame(4, 7).rules.withShortcuts(Map.of());
+        LayoutGenerator.Constraints c = new LayoutGenerator.Constraints(4, 2, 40, 0.02);
+        LayoutGenerator.Result r = LayoutGenerator.search(base, c, 3, 64, 0);
+        assertValidLayout(base, c, r);
+        assertTrue(r.feasible);
+        assertEquals(40, r.eval.expectedTurns, 40*0.05);
+        assertEquals(r.shortcuts, LayoutGenerator.search(base, c, 3, 64, 0).shortcuts);
+    }
+
+    // Rumus kursi di evaluate harus cocok dengan permainan penuh yang disimulasikan
+    @Test
+    void evaluationMatchesSimulatedWinRates() {
+        GameRules rules = new SeededGame(6, 8).rules;
+        LayoutGenerator.Evaluation e = LayoutGenerator.evaluate(rules, 3);
+        SimStats st = new MonteCarloSimulator(rules, 3).run(200_000, 6);
+        for(int s=1; s<=3; s++) assertEquals(e.winRate[s], st.winRate(s), 0.006, "kursi " + s);
+    }
+
+    @Test
+    void tooManyShortcutsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LayoutGenerator.sample(new SplittableRandom(1), 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> new LayoutGenerator.Constraints(-1, 2, 10, 0));
+    }
+}
@@ -0,0 +1,63 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Nilai eksak dari rantai Markov harus cocok dengan permainan satu pemain yang disimulasikan (seed dan layout tetap).
+class MarkovSolverTest {
+    static final int GAMES = 200_000, K = 60;
+
+    @Test
+    void expectationsAndCdfMatchSimulation() {
+        for(long seed : new long[]{5, 11}) {
+            GameRules rules = new SeededGame(seed, 8).rules;
+            MarkovSolver.Solution sol = MarkovSolver.solve(rules);
+            SplittableRandom rng = new SplittableRandom(seed);
+            double rolls = 0, rolls2 = 0, turns = 0, turns2 = 0;
+            long[] within = new long[K+1];
+            for(int g=0; g<GAMES; g++) {
+                GameState gs = new GameState(rules, 1);
+                long t = 0;
+                boolean extra = false;
+                while(!gs.isOver()) { if(!extra) t++; extra = gs.step(rng).doubleTurn; } // lemparan tambahan = turn yang sama
+                long r = gs.turnsPlayed();
+                rolls += r; rolls2 += (double)r*r; turns += t; turns2 += (double)t*t;
+                if(t <= K) within[(int)t]++;
+            }
+            assertClose(sol.expectedRolls(1), rolls, rolls2, "rolls seed " + seed);
+            assertClose(sol.expectedTurns(1), turns, turns2, "turns seed " + seed);
+            assertTrue(sol.expectedRolls(1) >= sol.expectedTurns(1));
+            // Simulator paralel menghitung lemparan per permainan: satu pemain = expectedRolls dari kotak 1
+            SimStats st = new MonteCarloSimulator(rules, 1).run(GAMES, seed);
+            assertEquals(sol.expectedRolls(1), st.meanTurns(), sol.expectedRolls(1)*0.02, "simulator seed " + seed);
+
+            double[] cdf = sol.turnCdf(1, K);
+            long acc = 0;
+            for(int k=0; k<=K; k++) {
+                acc += within[k];
+                assertEquals(cdf[k], (double)acc/GAMES, 0.005, "cdf k=" + k + " seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void goalAndBeyondNeedNoTurns() {
+        GameRules rules = new SeededGame(2, 6).rules;
+        MarkovSolver.Solution sol = MarkovSolver.solve(rules);
+        assertEquals(0, sol.expectedTurns(rules.goal));
+        assertEquals(0, sol.expectedRolls(rules.goal + 3));
+        assertSame(sol, MarkovSolver.solve(new GameRules(rules.goal, new int[rules.goal+1], rules.shortcuts()))); // cache per layout
+        double[] f = sol.finishWithin(3);
+        assertEquals(1, f[rules.goal]);
+        for(int s=1; s<rules.goal; s++) assertTrue(f[s] >= sol.finishWithin(2)[s] - 1e-12, "monoton di kotak " + s);
+    }
+
+    // Selisih rata-rata simulasi dengan nilai eksak maksimal 4 standard error
+    static void assertClose(double exact, double sum, double sumSq, String ctx) {
+        double mean = sum/GAMES, se = Math.sqrt((sumSq/GAMES - mean*mean)/GAMES);
+        assertEquals(exact, mean, 4*se, ctx);
+    }
+}
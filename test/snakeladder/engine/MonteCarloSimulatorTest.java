@@ -0,0 +1,47 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Hasil simulasi hanya bergantung pada seed (bukan jumlah thread), dan hitungannya konsisten satu sama lain.
+class MonteCarloSimulatorTest {
+
+    @Test
+    void sameSeedGivesSameStatsOnAnyPool() {
+        GameRules rules = new SeededGame(7, 8).rules;
+        ForkJoinPool one = new ForkJoinPool(1), four = new ForkJoinPool(4);
+        try {
+            SimStats a = new MonteCarloSimulator(rules, 3).run(50_000, 42, one);
+            SimStats b = new MonteCarloSimulator(rules, 3).run(50_000, 42, four);
+            assertEquals(a.report(rules.shortcuts()), b.report(rules.shortcuts()));
+            assertEquals(a.totalTurns, b.totalTurns);
+            assertArrayEquals(a.lengthHist, b.lengthHist);
+        } finally { one.shutdown(); four.shutdown(); }
+    }
+
+    @Test
+    void countsAddUp() {
+        GameRules rules = new SeededGame(3, 7).rules;
+        int players = 4;
+        SimStats st = new MonteCarloSimulator(rules, players).run(20_000, 1);
+        assertEquals(20_000, st.games());
+        assertEquals(0, st.unfinished);
+        long wins = 0, lengths = 0, scores = 0, winnerScores = 0;
+        for(int p=1; p<=players; p++) wins += st.wins[p];
+        for(long h : st.lengthHist) lengths += h;
+        for(long h : st.scoreHist) scores += h;
+        for(long h : st.winnerScoreHist) winnerScores += h;
+        assertEquals(st.games(), wins);
+        assertEquals(st.games(), lengths);
+        assertEquals(st.games()*players, scores);
+        assertEquals(st.games(), winnerScores);
+        double rates = 0;
+        for(int p=1; p<=players; p++) rates += st.winRate(p);
+        assertEquals(1, rates, 1e-12);
+        assertTrue(st.maxTurns >= st.turnPercentile(.99) && st.turnPercentile(.99) >= st.turnPercentile(.5));
+        for(int sq : rules.shortcuts().keySet()) assertTrue(st.shortcutHitsPerGame(sq) > 0, "shortcut " + sq);
+    }
+}
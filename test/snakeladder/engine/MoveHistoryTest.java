@@ -0,0 +1,69 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Varint zigzag + titik cek harus mengembalikan posisi yang sama persis dengan buffer int biasa.
+class MoveHistoryTest {
+
+    static void assertSame(List<Integer> expected, MoveHistory h) {
+        assertEquals(expected.size(), h.size());
+        for(int i=0; i<expected.size(); i++) assertEquals((int)expected.get(i), h.get(i), "index "+i);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), h.toArray());
+        if(!expected.isEmpty()) assertEquals((int)expected.get(expected.size()-1), h.peek());
+    }
+
+    @Test
+    void compressedRoundTripMatchesRaw() {
+        for(long seed=0; seed<20; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            MoveHistory packed = new MoveHistory(true), raw = new MoveHistory(false);
+            List<Integer> model = new ArrayList<>();
+            for(int i=0; i<5000; i++) {
+                // kebanyakan langkah kecil (+-6, shortcut), sesekali lompatan besar dan nilai ekstrem
+                int v = switch(rng.nextInt(10)) {
+                    case 0 -> rng.nextInt();
+                    case 1 -> rng.nextInt(1_000_000);
+                    default -> (model.isEmpty() ? 1 : model.get(model.size()-1)) + rng.nextInt(13) - 6;
+                };
+                if(i == 100) v = Integer.MIN_VALUE;
+                if(i == 101) v = Integer.MAX_VALUE;
+                model.add(v); packed.push(v); raw.push(v);
+            }
+            assertSame(model, packed);
+            assertSame(model, raw);
+        }
+    }
+
+    @Test
+    void truncateThenPushMatchesModel() {
+        for(boolean compressed : new boolean[]{true, false}) for(long seed=0; seed<20; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            MoveHistory h = new MoveHistory(compressed);
+            List<Integer> model = new ArrayList<>();
+            for(int round=0; round<30; round++) {
+                int grow = rng.nextInt(300);
+                for(int i=0; i<grow; i++) { int v = rng.nextInt(4) == 0 ? rng.nextInt() : rng.nextInt(200); model.add(v); h.push(v); }
+                int n = model.isEmpty() ? 0 : rng.nextInt(model.size()+1);
+                if(round % 7 == 0) n = (n / 64) * 64; // tepat di titik cek
+                h.truncate(n); model.subList(n, model.size()).clear();
+                assertSame(model, h);
+            }
+            h.truncate(0); model.clear();
+            assertEquals(0, h.size());
+            h.push(5); model.add(5); // delta pertama sesudah truncate(0) dihitung dari 0 lagi
+            assertSame(model, h);
+        }
+    }
+
+    @Test
+    void emptyHistoryRejectsAccess() {
+        MoveHistory h = new MoveHistory(true);
+        assertThrows(NoSuchElementException.class, h::peek);
+        assertThrows(IndexOutOfBoundsException.class, () -> h.get(0));
+        assertEquals(0, h.toArray().length);
+    }
+}
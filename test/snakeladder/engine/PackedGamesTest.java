@@ -0,0 +1,121 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Slot 32 byte harus berperilaku persis seperti GameState, dan bertahan utuh lewat writeTo/readFrom.
+class PackedGamesTest {
+
+    static void assertSameState(GameState g, PackedGames pg, int slot, String ctx) {
+        assertEquals(g.playerCount, pg.players(slot), ctx);
+        for(int pid=1; pid<=g.playerCount; pid++) {
+            assertEquals(g.position(pid), pg.position(slot, pid), ctx+" pos "+pid);
+            assertEquals(g.score(pid), pg.score(slot, pid), ctx+" score "+pid);
+        }
+        assertEquals(g.turnsPlayed(), pg.turnsPlayed(slot), ctx);
+        assertEquals(g.winner(), pg.winner(slot), ctx);
+        if(!g.isOver()) assertEquals(g.currentPlayer(), pg.currentPlayer(slot), ctx);
+    }
+
+    @Test
+    void packedStepMatchesGameState() {
+        PackedGames pg = new PackedGames();
+        Turn t = new Turn();
+        for(long seed=0; seed<300; seed++) {
+            int players = 1 + (int)(seed % 4), size = 4 + (int)(seed % 9);
+            SeededGame sg = new SeededGame(seed, size);
+            GameState g = new GameState(sg.rules, players);
+            int slot = pg.alloc(sg.rules, players);
+            SplittableRandom a = new SplittableRandom(seed), b = new SplittableRandom(seed);
+            while(!g.isOver()) {
+                Turn exp = g.step(a);
+                int pid = exp.pid, to = exp.to, pts = exp.points; boolean dbl = exp.doubleTurn;
+                pg.step(slot, sg.rules, b, t);
+                assertEquals(pid, t.pid); assertEquals(to, t.to); assertEquals(pts, t.points); assertEquals(dbl, t.doubleTurn);
+                assertSameState(g, pg, slot, "seed "+seed);
+            }
+            assertThrows(IllegalStateException.class, () -> pg.apply(slot, sg.rules, true, 1, new Turn()));
+            pg.free(slot);
+        }
+        assertEquals(0, pg.liveGames());
+    }
+
+    @Test
+    void storeAndLoadRoundTripMidGame() {
+        PackedGames pg = new PackedGames();
+        int slot = pg.alloc(new SeededGame(0, 8).rules, 1);
+        for(long seed=0; seed<200; seed++) {
+            int players = 1 + (int)(seed % 4);
+            SeededGame sg = new SeededGame(seed, 8);
+            GameState g = new GameState(sg.rules, players);
+            SplittableRandom rng = new SplittableRandom(seed);
+            int stopAt = (int)(seed % 40);
+            for(int i=0; i<stopAt && !g.isOver(); i++) g.step(rng);
+            g.store(pg, slot);
+            assertSameState(g, pg, slot, "seed "+seed);
+            GameState back = GameState.load(pg, slot, sg.rules);
+            // lanjutkan keduanya dengan dadu yang sama: harus tetap identik sampai selesai
+            SplittableRandom r1 = new SplittableRandom(~seed), r2 = new SplittableRandom(~seed);
+            while(!g.isOver()) {
+                Turn x = g.step(r1); int pid = x.pid, to = x.to;
+                Turn y = back.step(r2);
+                assertEquals(pid, y.pid); assertEquals(to, y.to);
+            }
+            assertTrue(back.isOver());
+            assertArrayEquals(g.scores(), back.scores());
+            assertEquals(g.winner(), back.winner());
+        }
+    }
+
+    @Test
+    void writeToReadFromPreservesSlotsAndFreeList() throws IOException {
+        PackedGames pg = new PackedGames();
+        GameRules rules = new SeededGame(9, 8).rules;
+        SplittableRandom rng = new SplittableRandom(9);
+        int n = 5000; // lebih dari satu chunk
+        int[] slots = new int[n];
+        for(int i=0; i<n; i++) {
+            slots[i] = pg.alloc(rules, 1 + i % 4);
+            for(int k=0; k<i % 17 && !pg.isOver(slots[i]); k++) pg.step(slots[i], rules, rng, new Turn());
+        }
+        for(int i=0; i<n; i+=7) pg.free(slots[i]);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        pg.writeTo(Channels.newChannel(bytes));
+        PackedGames back = PackedGames.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(pg.liveGames(), back.liveGames());
+        for(int i=0; i<n; i++) {
+            int s = slots[i];
+            assertEquals(pg.view(s), back.view(s), "slot "+s);
+        }
+        // slot yang dibebaskan dipakai ulang sebelum slot baru
+        Set<Integer> freed = new HashSet<>();
+        for(int i=0; i<n; i+=7) freed.add(slots[i]);
+        for(int i=0; i<freed.size(); i++) assertTrue(freed.contains(back.alloc(rules, 2)));
+        assertEquals(n, back.alloc(rules, 2));
+
+        byte[] torn = Arrays.copyOf(bytes.toByteArray(), bytes.size()-5);
+        assertThrows(EOFException.class, () -> PackedGames.readFrom(Channels.newChannel(new ByteArrayInputStream(torn))));
+        assertThrows(IOException.class, () -> PackedGames.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[16]))));
+    }
+
+    // Posisi disimpan 16 bit: papan yang lebih besar harus ditolak sebelum ada yang ditulis ke slot
+    @Test
+    void boardsBeyondMaxGoalAreRejected() {
+        PackedGames pg = new PackedGames();
+        GameRules big = new GameRules(PackedGames.MAX_GOAL+1, new int[PackedGames.MAX_GOAL+2], Map.of());
+        GameRules ok = new SeededGame(3, 8).rules;
+        assertThrows(IllegalArgumentException.class, () -> pg.alloc(big, 2));
+        assertEquals(0, pg.liveGames());
+        int slot = pg.alloc(ok, 2);
+        assertThrows(IllegalArgumentException.class, () -> pg.reset(slot, big, 2));
+        assertThrows(IllegalArgumentException.class, () -> new GameState(big, 2).store(pg, slot));
+        assertThrows(IllegalArgumentException.class, () -> pg.alloc(ok, PackedGames.MAX_PLAYERS+1));
+        assertEquals(1, pg.position(slot, 1));
+    }
+}
@@ -0,0 +1,114 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// GameState.step (tabel outcome + ring buffer) harus sama persis dengan logika asli
+// execLogic/genPath/finalizeTurn (Stack per pemain + Deque giliran) untuk RNG yang sama.
+class RuleEquivalenceTest {
+
+    // Salinan logika awal, digeneralisasi dari 64 kotak ke goal sembarang
+    static final class Baseline {
+        final int goal; final int[] points; final Map<Integer, Integer> shortcuts;
+        final List<Stack<Integer>> stacks = new ArrayList<>();
+        final Deque<Integer> turnQueue = new ArrayDeque<>();
+        final int[] scores;
+        int winner;
+
+        Baseline(int goal, int[] points, Map<Integer, Integer> shortcuts, int players) {
+            this.goal = goal; this.points = points; this.shortcuts = shortcuts;
+            scores = new int[players];
+            for(int i=1; i<=players; i++) { Stack<Integer> s = new Stack<>(); s.push(1); stacks.add(s); turnQueue.add(i); }
+        }
+
+        // Mengembalikan {pid, posisi akhir, link (-1 kalau tidak ada), poin}
+        int[] execLogic(Random random) {
+            int pid = turnQueue.pollFirst();
+            Stack<Integer> stk = stacks.get(pid-1);
+            int cur = stk.peek();
+            boolean prime = isPrime(cur);
+            boolean green = random.nextDouble() < 0.7;
+            int val = random.nextInt(6)+1;
+            int step = green ? val : -val;
+            List<Integer> path = genPath(cur, step);
+            int linkTarget = -1;
+            if(green) {
+                for(int i=0; i<path.size(); i++) {
+                    int n = path.get(i);
+                    if(shortcuts.containsKey(n) && prime && val > (n-cur)) {
+                        linkTarget = shortcuts.get(n); path = path.subList(0, i+1); break;
+                    }
+                }
+            }
+            int end = path.isEmpty() ? cur : path.get(path.size()-1);
+            int pos = linkTarget != -1 ? linkTarget : end;
+            stk.push(pos);
+            int pts = points[pos];
+            scores[pid-1] += pts;
+            if(pos==goal) winner = pid;
+            else if(pos%5==0 && pos!=1) turnQueue.addFirst(pid);
+            else turnQueue.addLast(pid);
+            return new int[]{pid, pos, linkTarget, pts};
+        }
+
+        List<Integer> genPath(int s, int st) {
+            List<Integer> p = new ArrayList<>(); int c = s, m = Math.abs(st), d = st>0?1:-1;
+            for(int i=0; i<m; i++) {
+                if(c == goal) break;
+                if(c == 1 && d == -1) {} else c += d;
+                p.add(c);
+            }
+            return p;
+        }
+
+        static boolean isPrime(int n) { if(n<=1)return false; for(int i=2; i*i<=n; i++) if(n%i==0) return false; return true; }
+    }
+
+    // genShortcuts asli: 5 shortcut di 2..63, pakai containsValue
+    static Map<Integer, Integer> baselineShortcuts(Random random) {
+        Map<Integer, Integer> shortcuts = new HashMap<>();
+        while(shortcuts.size()<5) {
+            int a = random.nextInt(62)+2, b = random.nextInt(62)+2;
+            if(a!=b && !shortcuts.containsKey(Math.min(a,b)) && !shortcuts.containsValue(Math.min(a,b)))
+                shortcuts.put(Math.min(a,b), Math.max(a,b));
+        }
+        return shortcuts;
+    }
+
+    @Test
+    void shortcutGenerationMatchesBaseline() {
+        for(long seed=0; seed<500; seed++)
+            assertEquals(baselineShortcuts(new Random(seed)), GameRules.genShortcuts(new Random(seed), 64, 5), "seed "+seed);
+    }
+
+    @Test
+    void seededStepMatchesBaselineExecLogic() {
+        int[] sizes = {4, 8, 10, 16};
+        for(int size : sizes) for(int players=1; players<=4; players++) for(long seed=0; seed<200; seed++) {
+            int goal = size*size;
+            Random layout = new Random(seed);
+            int[] pts = GameRules.randomPoints(layout, goal);
+            Map<Integer, Integer> sc = GameRules.genShortcuts(layout, goal, BoardLayout.shortcutCount(goal));
+            GameState game = new GameState(new GameRules(goal, pts, sc), players);
+            Baseline base = new Baseline(goal, pts, sc, players);
+            Random a = new Random(seed ^ 0x5DEECE66DL), b = new Random(seed ^ 0x5DEECE66DL);
+            String ctx = "size="+size+" players="+players+" seed="+seed;
+            for(int t=0; t<100_000 && !game.isOver(); t++) {
+                int[] exp = base.execLogic(a);
+                Turn turn = game.step(b);
+                assertEquals(exp[0], turn.pid, ctx+" turn "+t+" pid");
+                assertEquals(exp[1], turn.to, ctx+" turn "+t+" to");
+                assertEquals(exp[2], turn.link, ctx+" turn "+t+" link");
+                assertEquals(exp[3], turn.points, ctx+" turn "+t+" points");
+                assertEquals(base.winner != 0 ? 0 : base.turnQueue.peekFirst(), game.isOver() ? 0 : game.currentPlayer(), ctx+" turn "+t+" next");
+            }
+            assertTrue(game.isOver(), ctx);
+            assertEquals(base.winner, game.winner(), ctx);
+            assertArrayEquals(base.scores, game.scores(), ctx);
+            for(int pid=1; pid<=players; pid++) assertEquals((int)base.stacks.get(pid-1).peek(), game.position(pid), ctx);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Snapshot per giliran harus sama dengan memainkan ulang dari awal; cabang menimpa masa depan lama.
+class TimelineTest {
+
+    static void assertSameState(GameState exp, GameState act, String ctx) {
+        assertArrayEquals(exp.scores(), act.scores(), ctx);
+        for(int pid=1; pid<=exp.playerCount; pid++) assertEquals(exp.position(pid), act.position(pid), ctx);
+        assertEquals(exp.turnsPlayed(), act.turnsPlayed(), ctx);
+        assertEquals(exp.winner(), act.winner(), ctx);
+        int[] a = new int[4], b = new int[4];
+        assertEquals(exp.turnOrder(a), act.turnOrder(b), ctx);
+        assertArrayEquals(a, b, ctx);
+    }
+
+    @Test
+    void everySnapshotMatchesReplayFromStart() {
+        for(long seed=0; seed<50; seed++) {
+            int players = 1 + (int)(seed % 4);
+            SeededGame sg = new SeededGame(seed, 8, players, false);
+            GameState g = new GameState(sg.rules, players);
+            Timeline tl = new Timeline(g);
+            while(!g.isOver()) tl.push(g, g.step(sg.dice));
+            assertTrue(tl.finished());
+            assertEquals(g.turnsPlayed(), tl.last());
+            assertEquals(tl.last(), tl.seededTurns());
+            GameState r = new GameState(sg.rules, players);
+            int[] visits = new int[players+1]; Arrays.fill(visits, 1);
+            for(int k=0; k<=tl.last(); k++) {
+                if(k > 0) { int roll = tl.roll(k); Turn t = r.apply(roll > 0, Math.abs(roll)); assertEquals(t.pid, tl.mover(k)); visits[t.pid]++; }
+                assertSameState(r, tl.state(k, sg.rules), "seed "+seed+" turn "+k);
+                for(int pid=1; pid<=players; pid++) assertEquals(visits[pid], tl.visits(pid, k));
+            }
+        }
+    }
+
+    @Test
+    void branchOverwritesFutureAndEndsSeededPrefix() {
+        SeededGame sg = new SeededGame(42, 8, 2, false);
+        GameState g = new GameState(sg.rules, 2);
+        Timeline tl = new Timeline(g);
+        for(int i=0; i<20 && !g.isOver(); i++) tl.push(g, g.step(sg.dice));
+        int before = tl.last();
+        tl.moveTo(5);
+        assertFalse(tl.atEnd());
+        assertEquals(before, tl.seededTurns()); // rewind saja belum membuat cabang
+        g = tl.state(5, sg.rules);
+        tl.push(g, g.apply(true, 6));
+        assertEquals(6, tl.last());
+        assertTrue(tl.atEnd());
+        assertEquals(5, tl.seededTurns());
+        assertEquals(6, tl.roll(6));
+        assertEquals(6, tl.rolls().length);
+        tl.push(g, g.apply(false, 2));
+        tl.moveTo(3);
+        g = tl.state(3, sg.rules);
+        tl.push(g, g.apply(true, 1));
+        assertEquals(3, tl.seededTurns()); // cabang di depan cabang lama memperpendek prefix
+    }
+}
@@ -0,0 +1,71 @@
+package snakeladder.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Peluang menang per pemain harus berjumlah 1 dan cocok dengan permainan bersama yang disimulasikan dari state yang sama.
+class WinOddsTest {
+    static final int GAMES = 100_000;
+
+    static double[] odds(WinOdds wo, GameState g) {
+        int[] pos = new int[g.playerCount], order = new int[g.playerCount];
+        for(int p=1; p<=g.playerCount; p++) pos[p-1] = g.position(p);
+        int n = g.turnOrder(order);
+        double[] win = new double[g.playerCount];
+        wo.compute(pos, order, n, win);
+        return win;
+    }
+
+    @Test
+    void matchesSimulatedJointGame() {
+        for(int players=2; players<=4; players++) {
+            SeededGame sg = new SeededGame(20+players, 7, players, false);
+            WinOdds wo = new WinOdds(sg.rules);
+            assertTrue(wo.exact());
+            // state tengah permainan: beberapa giliran pertama dari seed, diputar ulang persis untuk tiap simulasi
+            GameState mid = new GameState(sg.rules, players);
+            List<Turn> prefix = new ArrayList<>();
+            for(int i=0; i<3*players && !mid.isOver(); i++) { Turn t = mid.step(sg.dice), c = new Turn(); c.green = t.green; c.val = t.val; prefix.add(c); }
+            assertFalse(mid.isOver());
+            for(GameState start : new GameState[]{new GameState(sg.rules, players), mid}) {
+                double[] p = odds(wo, start);
+                long[] wins = new long[players+1];
+                SplittableRandom rng = new SplittableRandom(players);
+                for(int g=0; g<GAMES; g++) {
+                    GameState gs = new GameState(sg.rules, players);
+                    if(start == mid) for(Turn t : prefix) gs.apply(t.green, t.val);
+                    wins[gs.playToEnd(rng)]++;
+                }
+                for(int pid=1; pid<=players; pid++) {
+                    double sim = (double)wins[pid]/GAMES;
+                    assertEquals(p[pid-1], sim, 4*Math.sqrt(sim*(1-sim)/GAMES) + 1e-3, "players " + players + " pid " + pid + (start == mid ? " (tengah)" : ""));
+                }
+            }
+        }
+    }
+
+    @Test
+    void probabilitiesSumToOne() {
+        GameRules small = new SeededGame(1, 8).rules;
+        GameRules large = new GameRules(100*100, new int[100*100+1], Map.of()); // tabel tidak konvergen: mode aproksimasi
+        for(GameRules rules : new GameRules[]{small, large}) {
+            WinOdds wo = new WinOdds(rules);
+            assertEquals(rules == small, wo.exact());
+            SplittableRandom rng = new SplittableRandom(3);
+            for(int i=0; i<200; i++) {
+                int n = 1 + rng.nextInt(4);
+                int[] pos = new int[n], order = new int[n];
+                for(int j=0; j<n; j++) { pos[j] = 1 + rng.nextInt(rules.goal-1); order[j] = j+1; }
+                for(int j=n-1; j>0; j--) { int k = rng.nextInt(j+1), t = order[j]; order[j] = order[k]; order[k] = t; }
+                double[] win = new double[n];
+                wo.compute(pos, order, n, win);
+                double sum = 0;
+                for(double w : win) { assertTrue(w >= 0 && w <= 1 + 1e-12, Arrays.toString(win)); sum += w; }
+                assertEquals(1, sum, 1e-9, Arrays.toString(pos) + " " + Arrays.toString(order));
+            }
+        }
+    }
+}
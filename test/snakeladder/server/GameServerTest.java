@@ -0,0 +1,92 @@
+package snakeladder.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Protokol room lewat socket sungguhan: urutan SEAT/START/TURN dan LEAVE hanya dari pemain yang duduk.
+class GameServerTest {
+    private GameServer server;
+
+    static final class Client implements AutoCloseable {
+        final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        final GameClient c;
+        Client(int port) throws IOException { c = new GameClient("127.0.0.1", port, l -> lines.add(l == null ? "<eof>" : l)); }
+        String next() throws InterruptedException {
+            String l = lines.poll(10, TimeUnit.SECONDS);
+            assertNotNull(l, "no reply from server");
+            return l;
+        }
+        @Override public void close() { c.close(); }
+    }
+
+    @BeforeEach void start() throws IOException { server = new GameServer(0, 8, false); }
+    @AfterEach void stop() throws IOException { server.close(); }
+
+    @Test
+    void leaveFromNonSeatedConnectionIsRejected() throws Exception {
+        try (Client a = new Client(server.port()); Client b = new Client(server.port()); Client outsider = new Client(server.port())) {
+            a.c.send("JOIN r 2 alice");
+            assertEquals("SEAT r 1", a.next());
+            b.c.send("JOIN r 2 bob");
+            assertEquals("SEAT r 2", b.next());
+            assertTrue(a.next().startsWith("START r "));
+            assertTrue(b.next().startsWith("START r "));
+
+            outsider.c.send("LEAVE r");
+            assertEquals("ERR r not-seated", outsider.next());
+            assertEquals(1, server.roomCount());
+
+            a.c.send("ROLL r");
+            String turn = a.next();
+            assertTrue(turn.startsWith("TURN r 1 "), turn);
+            assertEquals(turn, b.next());
+
+            b.c.send("LEAVE r");
+            assertEquals("CLOSED r", a.next()); // dikirim setelah room dihapus
+            assertEquals(0, server.roomCount());
+        }
+    }
+
+    @Test
+    void burstOfCommandsIsAnsweredInOrder() throws Exception {
+        try (Client a = new Client(server.port())) {
+            for(int i=0; i<500; i++) a.c.send("PING");
+            a.c.send("ROLL nowhere");
+            for(int i=0; i<500; i++) assertEquals("PONG", a.next());
+            assertEquals("ERR nowhere no-room", a.next());
+        }
+    }
+
+    // Klien yang terus mengirim tapi tidak pernah membaca: outbox penuh -> koneksi diputus, klien lain tetap dilayani
+    @Test
+    void clientThatNeverReadsIsDisconnected() throws Exception {
+        try (Socket slow = new Socket()) {
+            slow.setReceiveBufferSize(4096);
+            slow.connect(new InetSocketAddress("127.0.0.1", server.port()));
+            Writer w = new BufferedWriter(new OutputStreamWriter(slow.getOutputStream(), java.nio.charset.StandardCharsets.UTF_8));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            try {
+                while(server.slowClientsDropped() == 0 && System.nanoTime() < deadline) {
+                    for(int i=0; i<1000; i++) w.write("PING\n");
+                    w.flush();
+                }
+                w.write("PING\n"); w.flush();
+            } catch(IOException e) { /* server sudah menutup koneksi */ }
+            assertEquals(1, server.slowClientsDropped());
+        }
+        try (Client a = new Client(server.port())) {
+            a.c.send("PING");
+            assertEquals("PONG", a.next());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package snakeladder.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import snakeladder.engine.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tulis -> buka ulang -> query harus cocok dengan hitungan langsung, dan crash di tengah tidak boleh membuat arsip tak terbaca.
+class GameArchiveTest {
+    @TempDir Path dir;
+
+    // Hitungan referensi sambil menulis; ends[g] = baris turn setelah game g
+    static final class Expected {
+        final List<Long> ends = new ArrayList<>();
+        final long[][] wins = new long[GameArchive.SEATS+1][GameArchive.SEATS+1];
+        final Map<String, long[]> scores = new TreeMap<>(); // {count, sum}
+        final Set<Long> layouts = new HashSet<>();
+        long links, turns;
+
+        void add(GameState g, String[] names, long layout, int links, int turns) {
+            this.links += links; this.turns += turns; ends.add(this.turns);
+            wins[g.playerCount][0]++; wins[g.playerCount][g.winner()]++;
+            for(int i=0; i<names.length; i++) { long[] s = scores.computeIfAbsent(names[i], k -> new long[2]); s[0]++; s[1] += g.score(i+1); }
+            layouts.add(layout);
+        }
+    }
+
+    // w == null: hanya hitungan referensi
+    static void write(GameArchive.Writer w, Expected e, long seed) throws IOException {
+        int players = 1 + (int)Math.floorMod(seed, 4L), size = 5 + (int)Math.floorMod(seed, 3L);
+        SeededGame sg = new SeededGame(seed, size, players, false);
+        String[] names = new String[players];
+        for(int i=0; i<players; i++) names[i] = "p" + Math.floorMod(seed + i, 5L);
+        GameState gs = new GameState(sg.rules, players);
+        if(w != null) w.beginGame(seed, size, false, sg.rules, names);
+        int links = 0, turns = 0;
+        while(!gs.isOver()) { Turn t = gs.step(sg.dice); if(w != null) w.turn(t); turns++; if(t.link != -1) links++; }
+        if(w != null) w.endGame(gs);
+        e.add(gs, names, GameArchive.layoutHash(sg.rules), links, turns);
+    }
+
+    static void assertMatches(Expected e, Path dir) throws IOException {
+        try (GameArchive.Reader r = new GameArchive.Reader(dir)) {
+            assertEquals(e.ends.size(), r.games);
+            assertEquals(e.turns, r.turns);
+            assertArrayEquals(e.wins, r.winsBySeat());
+            GameArchive.LayoutLengths ll = r.lengthByLayout();
+            assertEquals(e.layouts.size(), ll.layouts());
+            long games = 0, turns = 0;
+            for(long[] l : ll.top(Integer.MAX_VALUE)) { games += l[1]; turns += l[2]; }
+            assertEquals(r.games, games);
+            assertEquals(e.turns, turns);
+            long[] u = r.shortcutUsage();
+            assertEquals(r.games, u[0]); assertEquals(e.links, u[2]); assertEquals(e.turns, u[4]); assertEquals(e.links, u[5]);
+            Map<String, GameArchive.ScoreDist> sd = r.scoresByName();
+            assertEquals(e.scores.keySet(), sd.keySet());
+            e.scores.forEach((n, s) -> { assertEquals(s[0], sd.get(n).count, n); assertEquals(s[1], sd.get(n).sum, n); });
+        }
+    }
+
+    static long rows(Path dir, GameArchive.Col c) throws IOException {
+        Path p = dir.resolve(c.file);
+        return Files.exists(p) ? Files.size(p)/c.width : 0;
+    }
+
+    @Test
+    void writeReopenQuery() throws IOException {
+        Expected e = new Expected();
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) { for(long s=0; s<700; s++) write(w, e, s); }
+        assertMatches(e, dir);
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) {
+            assertEquals(700, w.games());
+            for(long s=700; s<900; s++) write(w, e, s);
+        }
+        assertMatches(e, dir);
+    }
+
+    // Buffer kolom game (4 KB) penuh jauh sebelum buffer turn (64 KB): yang sampai ke disk tetap harus game yang turn-nya lengkap
+    @Test
+    void gameRowsNeverReachDiskBeforeTheirTurns() throws IOException {
+        Expected e = new Expected();
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) {
+            boolean drained = false;
+            for(long s=0; s<1500; s++) {
+                write(w, e, s);
+                long games = Long.MAX_VALUE, turns = Long.MAX_VALUE;
+                for(GameArchive.Col c : GameArchive.Col.values()) {
+                    if(c.perTurn) turns = Math.min(turns, rows(dir, c)); else games = Math.min(games, rows(dir, c));
+                }
+                if(games > 0) { drained = true; assertTrue(e.ends.get((int)games-1) <= turns, "game " + games + " di disk tanpa turn-nya"); }
+            }
+            assertTrue(drained);
+            try (GameArchive.Reader r = new GameArchive.Reader(dir)) { assertTrue(r.games > 0); } // terbaca di tengah penulisan
+        }
+        assertMatches(e, dir);
+    }
+
+    @Test
+    void shortTurnColumnDropsIncompleteGames() throws IOException {
+        Expected e = new Expected();
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) { for(long s=0; s<50; s++) write(w, e, s); }
+        // crash: turn.pos baru sampai di tengah game ke-48
+        try (FileChannel f = FileChannel.open(dir.resolve(GameArchive.Col.POS.file), StandardOpenOption.WRITE)) { f.truncate((e.ends.get(46)+1)*GameArchive.Col.POS.width); }
+        Expected kept = new Expected();
+        for(long s=0; s<47; s++) write(null, kept, s);
+        assertMatches(kept, dir);
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) {
+            assertEquals(47, w.games());
+            for(long s=100; s<110; s++) write(w, kept, s);
+        }
+        assertMatches(kept, dir);
+    }
+
+    // Kolom game lebih panjang dari kolom turn (urutan drain lama): tetap terbuka, game tanpa turn dibuang
+    @Test
+    void gameRowsWithoutTurnsAreDropped() throws IOException {
+        Expected e = new Expected();
+        try (GameArchive.Writer w = new GameArchive.Writer(dir)) { for(long s=0; s<20; s++) write(w, e, s); }
+        for(GameArchive.Col c : GameArchive.Col.values()) if(c.perTurn) {
+            try (FileChannel f = FileChannel.open(dir.resolve(c.file), StandardOpenOption.WRITE)) { f.truncate(e.ends.get(14)*c.width); }
+        }
+        Expected kept = new Expected();
+        for(long s=0; s<15; s++) write(null, kept, s);
+        assertMatches(kept, dir);
+    }
+
+    // Id nama = nomor baris names.txt: CR/LF di nama dan baris duplikat dari arsip lama tidak boleh menggeser id
+    @Test
+    void namesWithLineBreaksKeepStableIds() throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("names.txt"), "dup\ndup\n");
+        String[][] seats = {{"a\rb", "dup"}, {"a b", "c\r\nd"}, {"c\r\nd", "a\nb"}};
+        for(int round=0; round<2; round++) {
+            try (GameArchive.Writer w = new GameArchive.Writer(dir)) {
+                for(int i=0; i<seats.length; i++) {
+                    SeededGame sg = new SeededGame(i, 5, 2, false);
+                    GameState gs = new GameState(sg.rules, 2);
+                    w.beginGame(sg.seed, 5, false, sg.rules, seats[i]);
+                    while(!gs.isOver()) w.turn(gs.step(sg.dice));
+                    w.endGame(gs);
+                }
+            }
+            try (GameArchive.Reader r = new GameArchive.Reader(dir)) {
+                Map<String, GameArchive.ScoreDist> sd = r.scoresByName();
+                assertEquals(Set.of("a b", "dup", "c  d"), sd.keySet());
+                assertEquals(3L*(round+1), sd.get("a b").count);
+                assertEquals(round+1, sd.get("dup").count);
+                assertEquals(2L*(round+1), sd.get("c  d").count);
+            }
+        }
+        assertEquals(List.of("dup", "dup", "a b", "c  d"), Files.readAllLines(dir.resolve("names.txt")));
+    }
+}
@@ -0,0 +1,102 @@
+package snakeladder.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Skor harus bisa dipulihkan dari snapshot + journal setelah instance ditutup/dibuka ulang.
+class HighScoreManagerTest {
+    @TempDir Path dir;
+
+    @Test
+    void journalIsReplayedOnReopen() {
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            m.saveScore("Alice", 10); m.saveScore("Bob", 7);
+            m.saveScore("alice", 25); m.saveScore("ALICE", 3); // nama tidak peka huruf besar, ambil maksimum
+            assertTrue(m.flush(5000));
+        }
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(25, m.getScore("Alice"));
+            assertEquals(7, m.getScore("bob"));
+            assertEquals(0, m.getScore("carol"));
+            assertEquals(2, m.allScores().size());
+        }
+    }
+
+    @Test
+    void snapshotAndJournalMergeByMaximum() throws IOException {
+        Files.writeString(dir.resolve("snake_highscores.properties"), "alice=40\nbob=5\n");
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(40, m.getScore("alice"));
+            m.saveScore("alice", 30); m.saveScore("bob", 9);
+            assertTrue(m.flush(5000));
+        }
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(40, m.getScore("alice"));
+            assertEquals(9, m.getScore("bob"));
+        }
+    }
+
+    @Test
+    void tornAndCorruptJournalLinesAreSkipped() throws IOException {
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            m.saveScore("alice", 12);
+            assertTrue(m.flush(5000));
+        }
+        Path journal = dir.resolve("snake_highscores.journal");
+        // baris dengan crc salah + baris terpotong di tengah (crash saat menulis)
+        Files.write(journal, "bob\t99\tdeadbeef\ncarol\t5".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(12, m.getScore("alice"));
+            assertEquals(0, m.getScore("bob"));
+            assertEquals(0, m.getScore("carol"));
+        }
+    }
+
+    @Test
+    void compactionKeepsEveryScore() {
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            for(int i=1; i<=60_000; i++) m.saveScore("p" + (i % 500), i); // > 1 MB journal -> compact
+            assertTrue(m.flush(30_000));
+        }
+        assertTrue(Files.exists(dir.resolve("snake_highscores.properties")));
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            for(int p=0; p<500; p++) assertEquals(60_000 - ((60_000 - p) % 500), m.getScore("p" + p));
+        }
+    }
+
+    @Test
+    void failedCommitIsRetriedNotReportedAsFlushed() throws IOException {
+        Path journal = dir.resolve("snake_highscores.journal");
+        Files.createDirectory(journal); // journal tidak bisa dibuka sebagai file -> commit gagal
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            m.saveScore("alice", 50);
+            assertFalse(m.flush(300));
+            Files.delete(journal);
+            assertTrue(m.flush(10_000));
+        }
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(50, m.getScore("alice"));
+        }
+    }
+
+    // Tab/CR/LF di nama tidak boleh memecah baris journal, dan getScore harus memakai kunci yang sama dengan saveScore
+    @Test
+    void namesAreNormalizedTheSameWayForReadAndWrite() {
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            m.saveScore("Al\tice\r\n", 31);
+            assertEquals(31, m.getScore("al ice  "));
+            assertEquals(31, m.getScore("AL\tICE\n\r"));
+            assertTrue(m.flush(5000));
+        }
+        try (HighScoreManager m = new HighScoreManager(dir)) {
+            assertEquals(31, m.getScore("Al\tice\r\n"));
+            assertEquals(1, m.allScores().size());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package snakeladder.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Rank, top-N dan halaman harus sama dengan urutan referensi (skor terbaik menurun, seri -> nama yang lebih dulu terdaftar).
+class LeaderboardTest {
+
+    static final class Model {
+        final Map<String, Integer> best = new HashMap<>(), order = new HashMap<>();
+        final Map<String, List<Integer>> hist = new HashMap<>();
+
+        void register(String n) { order.putIfAbsent(n, order.size()); }
+        void record(String n, int s) { register(n); hist.computeIfAbsent(n, k -> new ArrayList<>()).add(s); }
+        void offerBest(String n, int s) { register(n); best.merge(n, s, Math::max); }
+
+        List<String> ranking() {
+            List<String> r = new ArrayList<>(best.keySet());
+            r.sort(Comparator.<String>comparingInt(best::get).reversed().thenComparingInt(order::get));
+            return r;
+        }
+    }
+
+    static void assertMatches(Model m, Leaderboard lb, int pageSize) {
+        List<String> r = m.ranking();
+        assertEquals(r.size(), lb.size());
+        for(int i=0; i<r.size(); i++) {
+            assertEquals(i+1, lb.rankOf(r.get(i)), r.get(i));
+            assertEquals((int)m.best.get(r.get(i)), lb.bestOf(r.get(i)));
+        }
+        for(int k=0; k*pageSize < r.size()+pageSize; k++) {
+            List<Leaderboard.Entry> page = lb.page(k, pageSize);
+            int from = k*pageSize;
+            assertEquals(Math.max(0, Math.min(pageSize, r.size()-from)), page.size(), "page "+k);
+            for(int j=0; j<page.size(); j++) {
+                Leaderboard.Entry e = page.get(j);
+                assertEquals(from+j+1, e.rank);
+                assertEquals(r.get(from+j), e.name);
+                assertEquals((int)m.best.get(e.name), e.score);
+            }
+        }
+    }
+
+    @Test
+    void randomOperationsMatchModel() {
+        for(long seed=0; seed<10; seed++) {
+            SplittableRandom rng = new SplittableRandom(seed);
+            Leaderboard lb = new Leaderboard();
+            Model m = new Model();
+            for(int op=0; op<3000; op++) {
+                String name = "p" + rng.nextInt(300);
+                int score = rng.nextInt(200);
+                if(rng.nextInt(4) == 0) { lb.offerBest(name, score); m.offerBest(name, score); }
+                else { lb.record(name, score); m.record(name, score); }
+                if(op % 500 == 499) assertMatches(m, lb, 1 + rng.nextInt(25));
+            }
+            assertMatches(m, lb, 10);
+            for(String n : m.order.keySet())
+                assertArrayEquals(m.hist.getOrDefault(n, List.of()).stream().mapToInt(Integer::intValue).toArray(), lb.history(n), n);
+        }
+    }
+
+    @Test
+    void namesAreCaseInsensitiveAndUnknownNamesHaveNoRank() {
+        Leaderboard lb = new Leaderboard();
+        lb.record("Alice", 10); lb.record("ALICE", 30); lb.record("bob", 20);
+        lb.offerBest("Alice", 10); lb.offerBest("ALICE", 30); lb.offerBest("bob", 20);
+        assertEquals(2, lb.size());
+        assertEquals(1, lb.rankOf("alice"));
+        assertEquals(30, lb.bestOf("Alice"));
+        assertArrayEquals(new int[]{10, 30}, lb.history("alice"));
+        assertEquals(0, lb.rankOf("carol"));
+        assertEquals(0, lb.bestOf("carol"));
+        assertEquals(0, lb.history("carol").length);
+        assertTrue(lb.range(0, 5).isEmpty());
+        assertTrue(lb.range(3, 5).isEmpty());
+        List<Leaderboard.Entry> top = lb.top(5);
+        assertEquals(List.of("alice", "bob"), top.stream().map(e -> e.name).toList());
+    }
+
+    @Test
+    void lowerScoreDoesNotMoveRank() {
+        Leaderboard lb = new Leaderboard();
+        lb.offerBest("a", 50); lb.offerBest("b", 40); lb.offerBest("a", 10);
+        assertEquals(1, lb.rankOf("a"));
+        assertEquals(50, lb.bestOf("a"));
+        lb.offerBest("b", 60);
+        assertEquals(2, lb.rankOf("a"));
+        assertEquals(1, lb.rankOf("b"));
+    }
+
+    // Skor kalah hanya masuk riwayat: tidak boleh jadi skor terbaik yang tidak pernah dijurnal
+    @Test
+    void recordOnlyAddsHistory() {
+        Leaderboard lb = new Leaderboard();
+        lb.record("a", 70); lb.record("b", 30);
+        assertEquals(0, lb.size());
+        assertEquals(0, lb.rankOf("a"));
+        assertArrayEquals(new int[]{70}, lb.history("a"));
+        lb.offerBest("b", 30);
+        assertEquals(1, lb.rankOf("b"));
+        assertEquals(0, lb.bestOf("a"));
+    }
+}
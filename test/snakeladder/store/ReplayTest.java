@@ -0,0 +1,132 @@
+package snakeladder.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import snakeladder.engine.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tulis -> baca harus mengembalikan event yang sama persis, dan verifier harus lolos tanpa mismatch.
+class ReplayTest {
+    @TempDir Path dir;
+
+    // Event sebagai teks supaya mudah dibandingkan
+    static final class Recorder implements ReplayVisitor {
+        final List<String> events = new ArrayList<>();
+        @Override public void gameStart(long seed, int size, int players, boolean fair) { events.add("G" + seed + "/" + size + "/" + players + "/" + fair); }
+        @Override public void turn(int pid, boolean green, int val) { events.add("T" + pid + (green ? "+" : "-") + val); }
+        @Override public void move(int to) { events.add("M" + to); }
+        @Override public void link(int to) { events.add("L" + to); }
+        @Override public void doubleTurn() { events.add("D"); }
+        @Override public void gameEnd(int winner) { events.add("E" + winner); }
+    }
+
+    // Rekam permainan dari seed, sekaligus catat event yang diharapkan
+    static void play(ReplayWriter w, Recorder expected, long seed, int size, int players, boolean fair) throws IOException {
+        SeededGame sg = new SeededGame(seed, size, players, fair);
+        GameState gs = new GameState(sg.rules, players);
+        w.beginGame(seed, size, players, fair); expected.gameStart(seed, size, players, fair);
+        while(!gs.isOver()) {
+            Turn t = gs.step(sg.dice);
+            w.turn(t);
+            expected.turn(t.pid, t.green, t.val); expected.move(t.stop);
+            if(t.link != -1) expected.link(t.link);
+            if(t.doubleTurn) expected.doubleTurn();
+            if(t.won) expected.gameEnd(t.pid);
+        }
+    }
+
+    @Test
+    void roundTripPreservesEveryEvent() throws IOException {
+        Path file = dir.resolve("games.snkr");
+        Recorder expected = new Recorder();
+        int games = 0;
+        try (ReplayWriter w = new ReplayWriter(file)) {
+            for(long seed=1; seed<=300; seed++, games++) play(w, expected, seed * 0x9E3779B97F4A7C15L, 4 + (int)(seed % 7), 1 + (int)(seed % 4), seed % 50 == 0);
+        }
+        Recorder actual = new Recorder();
+        try (ReplayReader r = new ReplayReader(file)) { assertEquals(games, r.readAll(actual)); }
+        assertEquals(expected.events, actual.events);
+
+        ReplayVerifier v = new ReplayVerifier();
+        try (ReplayReader r = new ReplayReader(file)) { r.readAll(v); }
+        assertEquals(games, v.games);
+        assertEquals(0, v.mismatches);
+    }
+
+    @Test
+    void reopenedWriterAppendsWithoutSecondHeader() throws IOException {
+        Path file = dir.resolve("games.snkr");
+        Recorder expected = new Recorder();
+        try (ReplayWriter w = new ReplayWriter(file)) { play(w, expected, 11, 8, 2, false); }
+        try (ReplayWriter w = new ReplayWriter(file)) { play(w, expected, 12, 8, 3, false); }
+        Recorder actual = new Recorder();
+        try (ReplayReader r = new ReplayReader(file)) { assertEquals(2, r.readAll(actual)); }
+        assertEquals(expected.events, actual.events);
+    }
+
+    @Test
+    void tornTailIsIgnored() throws IOException {
+        Path file = dir.resolve("games.snkr");
+        Recorder expected = new Recorder();
+        try (ReplayWriter w = new ReplayWriter(file)) { play(w, expected, 21, 8, 2, false); play(w, expected, 22, 8, 2, false); }
+        long full = Files.size(file);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) { ch.truncate(full - 3); }
+        LastGameCollector last = new LastGameCollector();
+        try (ReplayReader r = new ReplayReader(file)) { assertEquals(2, r.readAll(last)); }
+        assertEquals(21, last.seed); // permainan kedua tidak lengkap -> yang terakhir selesai tetap yang pertama
+    }
+
+    @Test
+    void lastGameCollectorRebuildsTheGame() throws IOException {
+        Path file = dir.resolve("games.snkr");
+        try (ReplayWriter w = new ReplayWriter(file)) { play(w, new Recorder(), 31, 6, 3, false); play(w, new Recorder(), 32, 9, 2, false); }
+        LastGameCollector last = new LastGameCollector();
+        try (ReplayReader r = new ReplayReader(file)) { r.readAll(last); }
+        assertEquals(32, last.seed); assertEquals(9, last.size); assertEquals(2, last.players);
+        SeededGame sg = new SeededGame(last.seed, last.size, last.players, last.fair);
+        GameState gs = new GameState(sg.rules, last.players);
+        for(int roll : last.rolls) gs.apply(roll > 0, Math.abs(roll));
+        assertTrue(gs.isOver());
+        assertEquals(new GameState(sg.rules, 2).playToEnd(new SeededGame(32, 9, 2, false).dice), gs.winner());
+    }
+
+    // Sama seperti GUI: rewind ke giliran k lalu lanjut melempar dengan RNG dadu yang sudah maju (bukan dari seed)
+    @Test
+    void branchedGameVerifiesWithFreeMarker() throws IOException {
+        for(boolean marked : new boolean[]{true, false}) {
+            Path file = dir.resolve("branch-" + marked + ".snkr");
+            SeededGame sg = new SeededGame(77, 8, 2, false);
+            GameState g = new GameState(sg.rules, 2);
+            Timeline tl = new Timeline(g);
+            for(int i=0; i<12; i++) tl.push(g, g.step(sg.dice));
+            int k = 4;
+            tl.moveTo(k);
+            g = tl.state(k, sg.rules);
+            try (ReplayWriter w = new ReplayWriter(file)) {
+                w.beginGame(sg.seed, 8, 2, false);
+                GameState p = tl.state(0, sg.rules);
+                for(int i=1; i<=k; i++) { int r = tl.roll(i); w.turn(p.apply(r > 0, Math.abs(r))); }
+                if(marked) w.diceFree();
+                while(!g.isOver()) { Turn t = g.step(sg.dice); w.turn(t); tl.push(g, t); }
+            }
+            assertEquals(k, tl.seededTurns());
+            ReplayVerifier v = new ReplayVerifier();
+            try (ReplayReader r = new ReplayReader(file)) { r.readAll(v); }
+            if(marked) { assertEquals(0, v.mismatches); assertEquals(1, v.freeGames); }
+            else assertTrue(v.mismatches > 0, "tanpa FREE dadu cabang tidak cocok dengan seed");
+        }
+    }
+
+    @Test
+    void rejectsForeignFile() throws IOException {
+        Path file = dir.resolve("junk.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6});
+        assertThrows(IOException.class, () -> new ReplayReader(file).close());
+    }
+}